@@ -0,0 +1,144 @@
+package org.evento.controller;
+
+import org.evento.App;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.evento.model.request.EventoRequest;
+import org.evento.security.JwtService;
+import org.evento.service.EventoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Corrida por ingressos por HTTP, contra a aplicação completa (Tomcat embarcado e H2 embarcado): cada
+ * operação é uma onda de POST /events/{id}/register em que {@link #USUARIOS} usuários, cada um com o
+ * próprio token, disputam as {@link #CAPACIDADE} vagas de um evento novo, com {@link #CONCORRENCIA}
+ * requisições simultâneas. O resultado é o tempo por onda; a onda falha se alguma resposta não for
+ * 200 (inscrito) ou 202 (lista de espera) ou se o número de inscritos passar da capacidade.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class CorridaInscricoesBenchmark {
+
+    static final int USUARIOS = 200;
+    static final int CAPACIDADE = 50;
+    static final int CONCORRENCIA = 32;
+
+    private ConfigurableApplicationContext contexto;
+    private EventoService eventoService;
+    private ExecutorService executor;
+    private final HttpClient cliente = HttpClient.newHttpClient();
+    private String baseUrl;
+
+    /** Token de cada usuário, indexado pelo id. */
+    private final Map<String, String> tokens = new LinkedHashMap<>();
+    private String eventId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        contexto = new SpringApplicationBuilder(App.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:eventocorrida",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        eventoService = contexto.getBean(EventoService.class);
+        baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+
+        // Tokens emitidos direto pelo JwtService: o login (BCrypt) não faz parte da corrida
+        JwtService jwtService = contexto.getBean(JwtService.class);
+        List<Object[]> linhas = new ArrayList<>(USUARIOS);
+        for (int i = 0; i < USUARIOS; i++) {
+            UsuarioPrincipal principal = new UsuarioPrincipal(UUID.randomUUID().toString(), "corrida-" + i, UsuarioRole.USER);
+            linhas.add(new Object[]{principal.id(), principal.username(), "senha", UsuarioRole.USER.name()});
+            tokens.put(principal.id(), jwtService.generateToken(
+                    new UsernamePasswordAuthenticationToken(principal, null, principal.authorities())));
+        }
+        contexto.getBean(JdbcTemplate.class)
+                .batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        executor = Executors.newFixedThreadPool(CONCORRENCIA);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareWave() {
+        eventId = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Corrida")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(CAPACIDADE)
+                .build()).getId();
+    }
+
+    @Benchmark
+    public int registerWave() throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger inscritos = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>(USUARIOS);
+        for (Map.Entry<String, String> usuario : tokens.entrySet()) {
+            HttpRequest requisicao = HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/events/" + eventId + "/register?userId=" + usuario.getKey()))
+                    .header("Authorization", "Bearer " + usuario.getValue())
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+            futures.add(executor.submit(() -> {
+                largada.await();
+                int status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    inscritos.incrementAndGet();
+                }
+                return status;
+            }));
+        }
+        largada.countDown();
+        for (Future<Integer> future : futures) {
+            int status = future.get(120, TimeUnit.SECONDS);
+            if (status != 200 && status != 202) {
+                throw new IllegalStateException("POST /events/{id}/register respondeu " + status);
+            }
+        }
+        if (inscritos.get() > CAPACIDADE) {
+            throw new IllegalStateException(inscritos.get() + " inscritos para " + CAPACIDADE + " vagas");
+        }
+        return inscritos.get();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        executor.shutdownNow();
+        contexto.close();
+    }
+}
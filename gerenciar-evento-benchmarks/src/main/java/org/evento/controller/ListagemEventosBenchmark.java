@@ -0,0 +1,104 @@
+package org.evento.controller;
+
+import org.evento.App;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.evento.model.request.EventoRequest;
+import org.evento.security.JwtService;
+import org.evento.service.EventoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /events por HTTP, contra a aplicação completa (Tomcat embarcado e H2 embarcado),
+ * nos três modos de autenticação do JwtRequestFilter: stateful sem o PrincipalCache (consulta ao banco a
+ * cada requisição), stateful com o PrincipalCache e stateless (principal vindo só das claims).
+ * A primeira página da listagem é a mesma em todos os modos; a diferença medida é a do filtro.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class ListagemEventosBenchmark {
+
+    static final int EVENTOS = 20;
+
+    @Param({"sem-cache", "cache", "stateless"})
+    private String modo;
+
+    private ConfigurableApplicationContext contexto;
+    private HttpClient cliente;
+    private HttpRequest requisicao;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        contexto = new SpringApplicationBuilder(App.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:eventolistagem",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--jwt.stateless.enabled=" + modo.equals("stateless"),
+                        "--security.principal-cache.maximum-size=" + (modo.equals("sem-cache") ? 0 : 10_000));
+
+        EventoService eventoService = contexto.getBean(EventoService.class);
+        for (int i = 0; i < EVENTOS; i++) {
+            eventoService.saveEvento(EventoRequest.builder()
+                    .nome("Benchmark listagem " + i)
+                    .data(LocalDate.now().plusDays(i + 1))
+                    .localizacao("Arena")
+                    .maxParticipantes(100)
+                    .build());
+        }
+
+        UsuarioPrincipal principal = new UsuarioPrincipal(UUID.randomUUID().toString(), "bench-listagem", UsuarioRole.USER);
+        contexto.getBean(JdbcTemplate.class).update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                principal.id(), principal.username(), "senha", UsuarioRole.USER.name());
+        String token = contexto.getBean(JwtService.class)
+                .generateToken(new UsernamePasswordAuthenticationToken(principal, null, principal.authorities()));
+
+        cliente = HttpClient.newHttpClient();
+        requisicao = HttpRequest.newBuilder(URI.create("http://localhost:"
+                        + contexto.getEnvironment().getProperty("local.server.port") + "/events"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] listEvents() throws Exception {
+        HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("GET /events respondeu " + resposta.statusCode());
+        }
+        return resposta.body();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        contexto.close();
+    }
+}
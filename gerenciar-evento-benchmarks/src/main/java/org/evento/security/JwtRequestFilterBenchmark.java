@@ -0,0 +1,88 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.evento.repository.UsuarioRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtRequestFilter.doFilterInternal para uma requisição com token válido, no modo padrão (principal
+ * vindo do PrincipalCache, já aquecido) e no modo stateless (principal vindo só das claims).
+ * O repositório de usuários é um stub em memória: o custo medido é o do filtro, não o do banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtRequestFilterBenchmark {
+
+    @Param({"false", "true"})
+    private boolean stateless;
+
+    private JwtRequestFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        UsuarioPrincipal principal = new UsuarioPrincipal("u1", "alice", UsuarioRole.USER);
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry(), JwtServiceBenchmark.SECRET, true, 10_000, stateless,
+                Duration.ofHours(10), Duration.ofMinutes(15));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+
+        filter = new JwtRequestFilter();
+        ReflectionTestUtils.setField(filter, "jwtService", jwtService);
+        ReflectionTestUtils.setField(filter, "usuarioRepository", usuarioRepository(principal));
+        ReflectionTestUtils.setField(filter, "principalCache",
+                new PrincipalCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5)));
+        ReflectionTestUtils.setField(filter, "stateless", stateless);
+
+        request = new MockHttpServletRequest("GET", "/events");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(authentication));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws Exception {
+        filter.doFilterInternal(request, response, chain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static UsuarioRepository usuarioRepository(UsuarioPrincipal principal) {
+        return (UsuarioRepository) Proxy.newProxyInstance(UsuarioRepository.class.getClassLoader(),
+                new Class<?>[]{UsuarioRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findPrincipalByUsername")) {
+                        return Optional.of(principal);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
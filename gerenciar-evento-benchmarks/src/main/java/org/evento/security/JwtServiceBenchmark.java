@@ -0,0 +1,65 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e validação de tokens. A validação é medida com o token já no cache de tokens
+ * verificados e com o cache desligado (jwt.cache.enabled=false: verificação HMAC completa a
+ * cada chamada).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "benchmark-secret";
+
+    private JwtService comCache;
+    private JwtService semCache;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        comCache = new JwtService(new SimpleMeterRegistry(), SECRET, true, 10_000, false, Duration.ofHours(10), Duration.ofMinutes(15));
+        semCache = new JwtService(new SimpleMeterRegistry(), SECRET, false, 10_000, false, Duration.ofHours(10), Duration.ofMinutes(15));
+        UsuarioPrincipal principal = new UsuarioPrincipal("u1", "alice", UsuarioRole.USER);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.authorities());
+        token = comCache.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return comCache.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String validateTokenCached() {
+        return comCache.validateToken(token);
+    }
+
+    @Benchmark
+    public String validateTokenUncached() {
+        return semCache.validateToken(token);
+    }
+}
@@ -0,0 +1,66 @@
+package org.evento.service;
+
+import org.evento.model.Evento;
+import org.evento.model.Inscricao;
+import org.evento.model.Usuario;
+import org.evento.model.UsuarioRole;
+import org.evento.model.response.EventoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventoService.converterDTO sobre um evento já carregado, variando o número de participantes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventoConversaoBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int participantes;
+
+    private EventoService eventoService;
+    private Evento evento;
+
+    @Setup
+    public void setUp() {
+        eventoService = new EventoService();
+        evento = new Evento();
+        evento.setId("evento-benchmark");
+        evento.setNome("Conference");
+        evento.setData(LocalDate.of(2030, 1, 1));
+        evento.setLocalizacao("Hall");
+        evento.setMaxParticipantes(participantes);
+
+        List<Inscricao> inscricoes = new ArrayList<>(participantes);
+        for (int i = 0; i < participantes; i++) {
+            Usuario usuario = new Usuario("user-" + i, "senha", UsuarioRole.USER);
+            usuario.setId("u" + i);
+            inscricoes.add(new Inscricao(evento, usuario));
+        }
+        evento.setInscricoes(inscricoes);
+        evento.setTotalParticipantes(participantes);
+    }
+
+    @Benchmark
+    public EventoResponse converterDTO() {
+        return eventoService.converterDTO(evento);
+    }
+}
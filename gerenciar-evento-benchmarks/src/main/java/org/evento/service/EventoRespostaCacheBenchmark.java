@@ -0,0 +1,97 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.evento.App;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.response.EventoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Corpo de GET /events/{id} para um evento com {@link #PARTICIPANTES} participantes, contra a aplicação
+ * completa com H2 embarcado: montando e serializando o EventoResponse a cada chamada (entidades já no cache
+ * de segundo nível) e servido pronto do EventoRespostaCache. Os bytes alocados por chamada saem do
+ * profiler de GC do JMH ({@code -Djmh.args="EventoRespostaCache -prof gc"}, em gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class EventoRespostaCacheBenchmark {
+
+    static final int PARTICIPANTES = 100;
+
+    private ConfigurableApplicationContext contexto;
+    private EventoService eventoService;
+    private EventoRespostaCache eventoRespostaCache;
+    private ObjectWriter eventoWriter;
+    private String eventId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        contexto = new SpringApplicationBuilder(App.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:eventoresposta",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        eventoService = contexto.getBean(EventoService.class);
+        eventoRespostaCache = contexto.getBean(EventoRespostaCache.class);
+        eventoWriter = contexto.getBean(ObjectMapper.class).writerFor(EventoResponse.class);
+
+        eventId = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Benchmark resposta")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(PARTICIPANTES)
+                .build()).getId();
+        List<String> usuarios = new ArrayList<>(PARTICIPANTES);
+        List<Object[]> linhas = new ArrayList<>(PARTICIPANTES);
+        for (int i = 0; i < PARTICIPANTES; i++) {
+            String id = UUID.randomUUID().toString();
+            usuarios.add(id);
+            linhas.add(new Object[]{id, "bench-" + id, "senha", "USER"});
+        }
+        contexto.getBean(JdbcTemplate.class)
+                .batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        usuarios.forEach(userId -> eventoService.registerForEvent(eventId, userId));
+    }
+
+    @Benchmark
+    public byte[] serializando() throws Exception {
+        return eventoWriter.writeValueAsBytes(eventoService.findById(eventId).orElseThrow());
+    }
+
+    @Benchmark
+    public byte[] emCache() {
+        return eventoRespostaCache
+                .get(eventId, eventoService.findVersion(eventId).orElseThrow(), () -> eventoService.findById(eventId))
+                .orElseThrow().json();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        contexto.close();
+    }
+}
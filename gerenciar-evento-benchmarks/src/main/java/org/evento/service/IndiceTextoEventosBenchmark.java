@@ -0,0 +1,82 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.repository.EventoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IndiceTextoEventos.search variando o número de eventos indexados: uma palavra completa e seletiva,
+ * um prefixo curto que casa com muitos termos e duas palavras combinadas. O índice é montado a partir
+ * de um EventoRepository em memória.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndiceTextoEventosBenchmark {
+
+    private static final String[] TEMAS = {"Java", "Kotlin", "Python", "Go", "Rust", "Dados", "Segurança", "Nuvem"};
+    private static final String[] FORMATOS = {"Congresso", "Workshop", "Meetup", "Seminário", "Oficina"};
+    private static final String[] CIDADES = {"São Paulo", "Recife", "Belém", "Florianópolis", "Goiânia", "Maceió"};
+
+    @Param({"1000", "100000"})
+    private int eventos;
+
+    private IndiceTextoEventos indice;
+
+    @Setup
+    public void setUp() {
+        List<EventoResumoResponse> resumos = new ArrayList<>(eventos);
+        for (int i = 0; i < eventos; i++) {
+            resumos.add(EventoResumoResponse.builder()
+                    .id("e" + i)
+                    .nome(FORMATOS[i % FORMATOS.length] + " de " + TEMAS[i % TEMAS.length] + " " + i)
+                    .localizacao(CIDADES[i % CIDADES.length])
+                    .build());
+        }
+        indice = new IndiceTextoEventos(eventoRepository(resumos), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public List<String> palavraSeletiva() {
+        return indice.search("4242", 20);
+    }
+
+    @Benchmark
+    public List<String> prefixoCurto() {
+        return indice.search("se", 20);
+    }
+
+    @Benchmark
+    public List<String> duasPalavras() {
+        return indice.search("workshop recife", 20);
+    }
+
+    private static EventoRepository eventoRepository(List<EventoResumoResponse> resumos) {
+        return (EventoRepository) Proxy.newProxyInstance(EventoRepository.class.getClassLoader(),
+                new Class<?>[]{EventoRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findAllResumos")) {
+                        return resumos;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
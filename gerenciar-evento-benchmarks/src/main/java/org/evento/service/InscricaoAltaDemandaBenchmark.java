@@ -0,0 +1,137 @@
+package org.evento.service;
+
+import org.evento.App;
+import org.evento.model.StatusInscricao;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.response.InscricaoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Inscrições sob disputa no mesmo evento: o caminho padrão (EventoService.registerForEvent) contra o
+ * escritor único do modo evento quente (InscricaoAltaDemanda.register), na aplicação completa com H2
+ * embarcado. Cada operação é uma onda de {@link #INSCRICOES} usuários novos disparados juntos por
+ * {@link #THREADS} threads; o resultado é o tempo por onda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class InscricaoAltaDemandaBenchmark {
+
+    static final int THREADS = 64;
+    static final int INSCRICOES = 2000;
+    /** Ondas de um fork (aquecimento mais medição): o evento tem vaga para todas. */
+    static final int ONDAS = 15;
+    static final String EVENTO_QUENTE = "evento-quente-benchmark";
+
+    @Param({"padrao", "quente"})
+    private String caminho;
+
+    private ConfigurableApplicationContext contexto;
+    private JdbcTemplate jdbcTemplate;
+    private BiFunction<String, String, InscricaoResponse> inscrever;
+    private ExecutorService executor;
+
+    private String eventId;
+    private List<String> usuarios;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        contexto = new SpringApplicationBuilder(App.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:eventoaltademanda",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--eventos.hot.event-ids=" + EVENTO_QUENTE);
+        jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        EventoService eventoService = contexto.getBean(EventoService.class);
+
+        // O evento quente precisa do id configurado em eventos.hot.event-ids
+        if (caminho.equals("quente")) {
+            eventId = EVENTO_QUENTE;
+            jdbcTemplate.update("insert into eventos (id, nome, max_participantes, total_participantes) values (?, ?, ?, 0)",
+                    eventId, "Benchmark quente", ONDAS * INSCRICOES);
+            inscrever = contexto.getBean(InscricaoAltaDemanda.class)::register;
+        } else {
+            eventId = eventoService.saveEvento(EventoRequest.builder()
+                    .nome("Benchmark padrão")
+                    .data(LocalDate.now().plusDays(30))
+                    .localizacao("Arena")
+                    .maxParticipantes(ONDAS * INSCRICOES)
+                    .build()).getId();
+            inscrever = eventoService::registerForEvent;
+        }
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareWave() {
+        usuarios = new ArrayList<>(INSCRICOES);
+        List<Object[]> linhas = new ArrayList<>(INSCRICOES);
+        for (int i = 0; i < INSCRICOES; i++) {
+            String id = UUID.randomUUID().toString();
+            usuarios.add(id);
+            linhas.add(new Object[]{id, "bench-" + id, "senha", "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+    }
+
+    @Benchmark
+    public int register() throws Exception {
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger inscritas = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(INSCRICOES);
+        for (String userId : usuarios) {
+            futures.add(executor.submit(() -> {
+                largada.await();
+                if (inscrever.apply(eventId, userId).getStatus() == StatusInscricao.REGISTERED) {
+                    inscritas.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        largada.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        if (inscritas.get() != INSCRICOES) {
+            throw new IllegalStateException(inscritas.get() + " de " + INSCRICOES + " inscrições aceitas");
+        }
+        return inscritas.get();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        executor.shutdownNow();
+        contexto.close();
+    }
+}
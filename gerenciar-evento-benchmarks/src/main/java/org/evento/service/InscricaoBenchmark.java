@@ -0,0 +1,90 @@
+package org.evento.service;
+
+import org.evento.App;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.response.InscricaoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventoService.registerForEvent contra a aplicação completa com H2 embarcado. Cada iteração mede
+ * um lote fixo de inscrições em um evento novo, com os usuários do lote já gravados antes da
+ * medição; o resultado é o tempo por lote de {@link #INSCRICOES} inscrições.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = InscricaoBenchmark.INSCRICOES)
+@Measurement(iterations = 10, batchSize = InscricaoBenchmark.INSCRICOES)
+@Fork(1)
+public class InscricaoBenchmark {
+
+    static final int INSCRICOES = 1000;
+
+    private ConfigurableApplicationContext contexto;
+    private EventoService eventoService;
+    private JdbcTemplate jdbcTemplate;
+
+    private String eventId;
+    private List<String> usuarios;
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        contexto = new SpringApplicationBuilder(App.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:eventobenchmark",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        eventoService = contexto.getBean(EventoService.class);
+        jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void prepareBatch() {
+        eventId = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Benchmark inscrições")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(INSCRICOES)
+                .build()).getId();
+        usuarios = new ArrayList<>(INSCRICOES);
+        List<Object[]> linhas = new ArrayList<>(INSCRICOES);
+        for (int i = 0; i < INSCRICOES; i++) {
+            String id = UUID.randomUUID().toString();
+            usuarios.add(id);
+            linhas.add(new Object[]{id, "bench-" + id, "senha", "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        proximo = 0;
+    }
+
+    @Benchmark
+    public InscricaoResponse registerForEvent() {
+        return eventoService.registerForEvent(eventId, usuarios.get(proximo++));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        contexto.close();
+    }
+}
@@ -0,0 +1,86 @@
+package org.evento.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.evento.model.response.EventoProximoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.repository.EventoRepository;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProximosEventos.next (a página de GET /events/upcoming) sem escritas pendentes, variando o total
+ * de eventos espalhados pelo próximo ano: o custo deve acompanhar o tamanho da página, não o total.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProximosEventosBenchmark {
+
+    @Param({"1000", "100000"})
+    private int eventos;
+
+    private ProximosEventos proximosEventos;
+
+    @Setup
+    public void setUp() {
+        LocalDate hoje = LocalDate.now();
+        List<EventoResumoResponse> resumos = new ArrayList<>(eventos);
+        for (int i = 0; i < eventos; i++) {
+            resumos.add(new EventoResumoResponse("e" + i, "Evento " + i, "Hall", hoje.plusDays(i % 365), 100, i % 100, 0L));
+        }
+        proximosEventos = new ProximosEventos(eventoRepository(resumos), new EventoCacheEvictor(entityManagerFactory()),
+                Duration.ofSeconds(5));
+    }
+
+    @TearDown
+    public void tearDown() {
+        proximosEventos.shutdown();
+    }
+
+    @Benchmark
+    public List<EventoProximoResponse> next() {
+        return proximosEventos.next(EventoService.DEFAULT_PAGE_SIZE);
+    }
+
+    private static EventoRepository eventoRepository(List<EventoResumoResponse> resumos) {
+        return stub(EventoRepository.class, "findResumosFrom", resumos);
+    }
+
+    /**
+     * Só o necessário para construir o EventoCacheEvictor, que não é acionado no benchmark.
+     */
+    private static EntityManagerFactory entityManagerFactory() {
+        return stub(EntityManagerFactory.class, "unwrap", stub(SessionFactory.class, "getCache", null));
+    }
+
+    private static <T> T stub(Class<T> tipo, String metodo, Object resultado) {
+        return tipo.cast(Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (proxy, method, args) -> {
+            if (method.getName().equals(metodo)) {
+                return resultado;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }));
+    }
+}
@@ -0,0 +1,99 @@
+package org.evento.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Abre os SqlStats de cada requisição e os devolve no cabeçalho Server-Timing, além de uma linha
+ * de log em DEBUG. O cabeçalho é gravado quando a resposta começa a ser escrita (antes do commit),
+ * ou ao fim da requisição para respostas sem corpo.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long inicio = System.nanoTime();
+        SqlStats stats = SqlStats.start();
+        request.setAttribute(SqlStats.ATTRIBUTE, stats);
+        ServerTimingResponse resposta = new ServerTimingResponse(response, stats, inicio);
+        try {
+            filterChain.doFilter(request, resposta);
+        } finally {
+            SqlStats.stop();
+            resposta.writeServerTiming();
+            if (log.isDebugEnabled()) {
+                log.debug("{} {} -> {}: {}, {} ms total", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), stats, (System.nanoTime() - inicio) / 1_000_000);
+            }
+        }
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStats stats;
+        private final long inicio;
+        private boolean escrito;
+
+        ServerTimingResponse(HttpServletResponse response, SqlStats stats, long inicio) {
+            super(response);
+            this.stats = stats;
+            this.inicio = inicio;
+        }
+
+        void writeServerTiming() {
+            if (!escrito && !isCommitted()) {
+                escrito = true;
+                setHeader("Server-Timing", stats.toServerTiming(System.nanoTime() - inicio));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeServerTiming();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.evento.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Instrumentação de SQL por requisição (SqlStats): o DataSource passa por um proxy que conta
+ * comandos, tempo de JDBC e linhas lidas, tanto do Hibernate quanto do JdbcTemplate, e um
+ * listener de PostLoad do Hibernate conta as entidades carregadas. O proxy custa em toda consulta
+ * e o cabeçalho expõe os números a qualquer cliente, então só é ligado com
+ * {@code eventos.server-timing.enabled=true} (perfis dev e test).
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventos.server-timing.enabled")
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new ContadorDeConsultas())
+                            .proxyResultSet()
+                            .afterMethod(SqlInstrumentationConfig::countRow)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsEntityCounter() {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(new ContadorDeEntidades()));
+    }
+
+    /**
+     * Antes do filtro do Spring Security, para que a carga do usuário autenticado também entre na conta.
+     */
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registro = new FilterRegistrationBean<>(new ServerTimingFilter());
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registro;
+    }
+
+    private static void countRow(MethodExecutionContext contexto) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null && contexto.getTarget() instanceof ResultSet
+                && contexto.getMethod().getName().equals("next") && Boolean.TRUE.equals(contexto.getResult())) {
+            stats.rowFetched();
+        }
+    }
+
+    private static class ContadorDeConsultas implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStats stats = SqlStats.current();
+            if (stats != null) {
+                stats.queryStarted();
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStats stats = SqlStats.current();
+            if (stats != null) {
+                stats.queryFinished();
+            }
+        }
+    }
+
+    private static class ContadorDeEntidades implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, (PostLoadEventListener) evento -> {
+                        SqlStats stats = SqlStats.current();
+                        if (stats != null) {
+                            stats.entityLoaded();
+                        }
+                    });
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
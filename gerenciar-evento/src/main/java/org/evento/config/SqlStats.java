@@ -0,0 +1,90 @@
+package org.evento.config;
+
+import java.util.Locale;
+
+/**
+ * Contadores de banco da requisição HTTP em andamento: comandos SQL executados (um lote JDBC conta
+ * como um), tempo de JDBC, linhas lidas de ResultSets e entidades carregadas pelo Hibernate.
+ * Ficam presos à thread da requisição, então trabalho em segundo plano (promotor da lista de
+ * espera, escritor do modo evento quente) não entra na conta.
+ */
+public final class SqlStats {
+
+    /**
+     * Atributo da requisição com os contadores, lido pelos testes de orçamento de consultas.
+     */
+    public static final String ATTRIBUTE = SqlStats.class.getName();
+
+    private static final ThreadLocal<SqlStats> ATUAL = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private long rowsFetched;
+    private int entitiesLoaded;
+    private long inicioConsulta;
+
+    public static SqlStats start() {
+        SqlStats stats = new SqlStats();
+        ATUAL.set(stats);
+        return stats;
+    }
+
+    /**
+     * Contadores da thread atual, ou null fora de uma requisição.
+     */
+    public static SqlStats current() {
+        return ATUAL.get();
+    }
+
+    public static void stop() {
+        ATUAL.remove();
+    }
+
+    void queryStarted() {
+        inicioConsulta = System.nanoTime();
+    }
+
+    void queryFinished() {
+        statements++;
+        jdbcNanos += System.nanoTime() - inicioConsulta;
+    }
+
+    void rowFetched() {
+        rowsFetched++;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * Valor do cabeçalho Server-Timing: "db" com o tempo de JDBC e os contadores, "app" com o tempo
+     * total da requisição até aqui.
+     */
+    String toServerTiming(long totalNanos) {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"statements=%d rows=%d entities=%d\", app;dur=%.3f",
+                jdbcNanos / 1e6, statements, rowsFetched, entitiesLoaded, totalNanos / 1e6);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d statements, %.3f ms jdbc, %d rows, %d entities",
+                statements, jdbcNanos / 1e6, rowsFetched, entitiesLoaded);
+    }
+}
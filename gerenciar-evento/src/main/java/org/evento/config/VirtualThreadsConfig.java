@@ -0,0 +1,21 @@
+package org.evento.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Perfil virtual-threads. Abaixo do Java 21 o Spring Boot ignora spring.threads.virtual.enabled sem
+ * aviso e tudo continua em threads de plataforma; a aplicação se recusa a subir para que o perfil
+ * não pareça ativo.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("The virtual-threads profile requires Java 21 or newer, running on Java "
+                    + Runtime.version());
+        }
+    }
+}
@@ -1,7 +0,0 @@
-package org.evento.config.exceptions;
-
-public class EventFullException extends RuntimeException {
-    public EventFullException(String message) {
-        super(message);
-    }
-}
\ No newline at end of file
@@ -4,6 +4,7 @@ import org.evento.model.Authentication;
 import org.evento.model.LoginResponse;
 
 import org.evento.security.AuthenticationService;
+import org.evento.security.LoginExecutor;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +15,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("auth")
 public class AuthenticationController {
@@ -21,14 +24,17 @@ public class AuthenticationController {
     private AuthenticationManager authenticationManager;
     @Autowired
     private AuthenticationService authenticationService;
+    @Autowired
+    private LoginExecutor loginExecutor;
 
+    /**
+     * A verificação da senha roda no LoginExecutor; a thread do servlet é liberada enquanto isso.
+     */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse>login(@RequestBody @Valid Authentication data){
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody @Valid Authentication data){
         var usernamePassword = new UsernamePasswordAuthenticationToken(data.username(), data.password());
-        var auth = this.authenticationManager.authenticate(usernamePassword);
-
-        var token = authenticationService.authenticate(auth);
 
-        return ResponseEntity.ok(new LoginResponse(token));
+        return loginExecutor.submit(() -> this.authenticationManager.authenticate(usernamePassword))
+                .thenApply(auth -> ResponseEntity.ok(new LoginResponse(authenticationService.authenticate(auth))));
     }
 }
\ No newline at end of file
@@ -1,14 +1,39 @@
 package org.evento.controller;
 
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.evento.model.StatusInscricao;
+import org.evento.model.request.EventoBuscaRequest;
 import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoPageResponse;
+import org.evento.model.response.EventoProximoResponse;
 import org.evento.model.response.EventoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.model.response.ImportacaoResponse;
+import org.evento.model.response.InscricaoLoteResponse;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.service.EventoExportService;
+import org.evento.service.EventoImportService;
+import org.evento.service.EventoRespostaCache;
 import org.evento.service.EventoService;
+import org.evento.service.InscricaoAltaDemanda;
+import org.evento.service.RetentativaOtimista;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -19,6 +44,21 @@ public class EventoController {
     @Autowired
     private EventoService eventoService;
 
+    @Autowired
+    private EventoImportService eventoImportService;
+
+    @Autowired
+    private EventoExportService eventoExportService;
+
+    @Autowired
+    private InscricaoAltaDemanda inscricaoAltaDemanda;
+
+    @Autowired
+    private EventoRespostaCache eventoRespostaCache;
+
+    @Autowired
+    private RetentativaOtimista retentativaOtimista;
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<EventoResponse> createEvent(@RequestBody EventoRequest eventoRequest) {
@@ -32,34 +72,144 @@ public class EventoController {
         return ResponseEntity.created(location).body(eventoSalvo);
     }
 
+    /**
+     * Importação em massa: o corpo (NDJSON ou CSV) é lido em streaming e gravado em lotes.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ImportacaoResponse> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                           InputStream body) throws IOException {
+        return ResponseEntity.ok(eventoImportService.importEvents(body, MediaType.parseMediaType(contentType)));
+    }
+
+    /**
+     * ETag da página: muda quando algum evento da página muda ou quando o próximo cursor muda.
+     */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<List<EventoResponse>> getAllEvents() {
+    public ResponseEntity<EventoPageResponse> listEvents(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "" + EventoService.DEFAULT_PAGE_SIZE) int size,
+                                                         WebRequest request) {
+        EventoPageResponse pagina = eventoService.findPage(cursor, size);
+        if (request.checkNotModified(pagina.getVersao())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(pagina.getVersao()).build();
+        }
+        return ResponseEntity.ok().eTag(pagina.getVersao()).body(pagina);
+    }
+
+    /**
+     * Busca paginada por período ({@code from}/{@code to}), localização exata e prefixo do nome, com o
+     * mesmo cursor e a mesma ETag da listagem.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<EventoPageResponse> searchEvents(@ParameterObject EventoBuscaRequest filtro,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "" + EventoService.DEFAULT_PAGE_SIZE) int size,
+                                                           WebRequest request) {
+        EventoPageResponse pagina = eventoService.search(filtro, cursor, size);
+        if (request.checkNotModified(pagina.getVersao())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(pagina.getVersao()).build();
+        }
+        return ResponseEntity.ok().eTag(pagina.getVersao()).body(pagina);
+    }
+
+    /**
+     * Busca por texto livre em nome e localização, sem diferenciar acentos e maiúsculas; cada palavra
+     * casa como prefixo. Os eventos vêm do mais para o menos relevante.
+     */
+    @GetMapping("/search/text")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<List<EventoResumoResponse>> searchEventsByText(@RequestParam String q,
+                                                                         @RequestParam(defaultValue = "" + EventoService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(eventoService.searchText(q, size));
+    }
+
+    /**
+     * Próximos eventos a partir de hoje, por data, com as vagas restantes de cada um.
+     */
+    @GetMapping("/upcoming")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<List<EventoProximoResponse>> getUpcomingEvents(@RequestParam(defaultValue = "" + EventoService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(eventoService.findUpcoming(size));
+    }
+
+    /**
+     * Lista completa com participantes; só é servida quando pedida explicitamente com {@code ?full=true}.
+     * O If-None-Match é conferido contra as versões de todos os eventos antes de carregar a lista.
+     */
+    @GetMapping(params = "full=true")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    public ResponseEntity<List<EventoResponse>> getAllEvents(WebRequest request) {
+        String versao = eventoService.findAllVersion();
+        if (request.checkNotModified(versao)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(versao).build();
+        }
         List<EventoResponse> events = eventoService.findAll();
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok().eTag(versao).body(events);
     }
 
+    /**
+     * Exportação completa em NDJSON, escrita direto do cursor do banco para a resposta.
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEvents() {
+        StreamingResponseBody body = out -> eventoExportService.exportEvents(out);
+        return ResponseEntity.ok()
+                .contentType(EventoImportService.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Responde com o EventoResponse já serializado do EventoRespostaCache e a versão do evento como ETag.
+     * Só a versão é lida antes do If-None-Match; um 304 não carrega o evento nem os participantes.
+     */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<EventoResponse> getEventById(@PathVariable String id) {
-        return eventoService.findById(id)
-                .map(ResponseEntity::ok)
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = EventoResponse.class)))
+    @ApiResponse(responseCode = "304", description = "If-None-Match confere com a versão atual")
+    public ResponseEntity<byte[]> getEventById(@PathVariable String id, WebRequest request) {
+        Long versao = eventoService.findVersion(id).orElse(null);
+        if (versao == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(String.valueOf(versao))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(String.valueOf(versao)).build();
+        }
+        return eventoRespostaCache.get(id, versao, () -> eventoService.findById(id))
+                .map(resposta -> ResponseEntity.ok()
+                        .eTag(String.valueOf(resposta.versao()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(resposta.json()))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<EventoResponse> updateEvent(@PathVariable String id, @RequestBody EventoRequest eventoRequest) {
-        return eventoService.updateEvent(id, eventoRequest)
+        return retentativaOtimista.execute("updateEvent", () -> eventoService.updateEvent(id, eventoRequest))
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/{id}/register")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<Void> registerForEvent(@PathVariable String id, @RequestParam String userId) {
-        eventoService.registerForEvent(id, userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<InscricaoResponse> registerForEvent(@PathVariable String id, @RequestParam String userId) {
+        InscricaoResponse inscricao = inscricaoAltaDemanda.isHot(id)
+                ? inscricaoAltaDemanda.register(id, userId)
+                : eventoService.registerForEvent(id, userId);
+        if (inscricao.getStatus() == StatusInscricao.WAITLISTED) {
+            return ResponseEntity.accepted().body(inscricao);
+        }
+        return ResponseEntity.ok(inscricao);
+    }
+
+    @PostMapping("/{id}/register/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<InscricaoLoteResponse> registerBatch(@PathVariable String id, @RequestBody InscricaoLoteRequest request) {
+        return ResponseEntity.ok(eventoService.registerBatch(id, request));
     }
 
     @DeleteMapping("/{id}")
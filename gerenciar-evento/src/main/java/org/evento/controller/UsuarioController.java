@@ -5,9 +5,11 @@ import org.evento.model.response.UsuarioResponse;
 import org.evento.service.UsuarioService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -34,9 +36,17 @@ public class UsuarioController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<UsuarioResponse> getEventById(@PathVariable String id) {
+    public ResponseEntity<UsuarioResponse> getEventById(@PathVariable String id, WebRequest request) {
+        Long versao = usuarioService.findVersion(id).orElse(null);
+        if (versao == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = String.valueOf(versao);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         return usuarioService.findById(id)
-                .map(ResponseEntity::ok)
+                .map(usuario -> ResponseEntity.ok().eTag(etag).body(usuario))
                 .orElse(ResponseEntity.notFound().build());
     }
 
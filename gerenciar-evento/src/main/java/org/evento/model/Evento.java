@@ -2,12 +2,16 @@ package org.evento.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "eventos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos")
+@Table(name = "eventos", indexes = @Index(name = "idx_eventos_data_id", columnList = "data, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,11 +26,49 @@ public class Evento {
     private String nome;
     private String localizacao;
 
-    @ManyToMany
-    private List<Usuario> participantes;
+    /**
+     * Lado inverso das inscrições, só para leitura: as inscrições são gravadas e removidas
+     * pelo InscricaoRepository, nunca salvando o evento. Por isso quem grava inscrições invalida
+     * esta coleção no cache de segundo nível (EventoCacheEvictor).
+     */
+    @OneToMany(mappedBy = "evento")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventos-inscricoes")
+    @OrderBy("inscritoEm, id")
+    private List<Inscricao> inscricoes;
 
     private int maxParticipantes;
+
+    /**
+     * Quantidade de inscritos, mantida pelas atualizações condicionais do EventoJdbcRepository
+     * para que a verificação de vagas não precise carregar a lista de participantes. Fica fora
+     * do update da entidade: salvar um evento lido antes de uma inscrição concorrente não pode
+     * gravar de volta o contador antigo.
+     */
+    @Column(updatable = false)
+    private int totalParticipantes;
+
+    /**
+     * Versão da entidade para o lock otimista: muda só quando o próprio evento é salvo.
+     */
+    @Version
+    private long versao;
+
+    /**
+     * Incrementada pelas atualizações de vagas do EventoJdbcRepository (inscrições, cancelamentos e
+     * promoções). Fica fora do @Version para que uma inscrição concorrente não faça a edição do
+     * evento falhar, e fora do update da entidade pelo mesmo motivo do contador.
+     */
+    @Column(updatable = false)
+    private long versaoInscricoes;
+
+    /**
+     * Versão exposta nas respostas e nas ETags: muda com qualquer alteração do evento ou das inscrições.
+     */
+    public long getVersaoPublica() {
+        return versao + versaoInscricoes;
+    }
+
     public boolean isFull() {
-        return participantes.size() >= maxParticipantes;
+        return totalParticipantes >= maxParticipantes;
     }
-}
\ No newline at end of file
+}
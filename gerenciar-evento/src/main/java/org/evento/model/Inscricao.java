@@ -0,0 +1,53 @@
+package org.evento.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Inscrição de um usuário em um evento. Cada inscrição é uma linha própria, então inscrever e
+ * cancelar são um único insert ou delete, sem reescrever as demais inscrições do evento.
+ */
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "inscricoes")
+@Table(name = "inscricoes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_inscricoes_evento_usuario", columnNames = {"evento_id", "usuario_id"}),
+        indexes = {
+                @Index(name = "idx_inscricoes_evento", columnList = "evento_id"),
+                @Index(name = "idx_inscricoes_usuario", columnList = "usuario_id")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class Inscricao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "evento_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Evento evento;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @Column(nullable = false)
+    private Instant inscritoEm;
+
+    public Inscricao(Evento evento, Usuario usuario) {
+        this.evento = evento;
+        this.usuario = usuario;
+        this.inscritoEm = Instant.now();
+    }
+}
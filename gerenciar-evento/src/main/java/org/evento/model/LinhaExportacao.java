@@ -0,0 +1,16 @@
+package org.evento.model;
+
+import java.time.LocalDate;
+
+/**
+ * Uma linha da exportação: os dados do evento repetidos para cada participante
+ * (usuarioId e username são nulos quando o evento não tem inscritos).
+ */
+public record LinhaExportacao(String eventoId,
+                              String nome,
+                              String localizacao,
+                              LocalDate data,
+                              int maxParticipantes,
+                              String usuarioId,
+                              String username) {
+}
@@ -0,0 +1,46 @@
+package org.evento.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Entrada na lista de espera de um evento lotado. O id é sequencial, então a ordem dos ids
+ * é a ordem de chegada (FIFO) e a posição é a quantidade de entradas com id menor ou igual.
+ */
+@Entity
+@Table(name = "lista_espera",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lista_espera_evento_usuario", columnNames = {"evento_id", "usuario_id"}),
+        indexes = @Index(name = "idx_lista_espera_evento_id", columnList = "evento_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(of = "id")
+public class ListaEspera {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "evento_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Evento evento;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @Column(nullable = false)
+    private Instant entrouEm;
+
+    public ListaEspera(Evento evento, Usuario usuario) {
+        this.evento = evento;
+        this.usuario = usuario;
+        this.entrouEm = Instant.now();
+    }
+}
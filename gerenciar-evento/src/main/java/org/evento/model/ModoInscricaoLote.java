@@ -0,0 +1,12 @@
+package org.evento.model;
+
+public enum ModoInscricaoLote {
+    /**
+     * Inscreve todos os usuários ou nenhum.
+     */
+    ALL_OR_NOTHING,
+    /**
+     * Inscreve os usuários válidos enquanto houver vagas, na ordem recebida.
+     */
+    BEST_EFFORT
+}
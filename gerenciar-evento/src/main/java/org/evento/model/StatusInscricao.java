@@ -0,0 +1,17 @@
+package org.evento.model;
+
+public enum StatusInscricao {
+    REGISTERED,
+    ALREADY_REGISTERED,
+    DUPLICATE,
+    USER_NOT_FOUND,
+    EVENT_FULL,
+    /**
+     * Evento lotado: o usuário entrou na lista de espera e será inscrito quando abrir vaga.
+     */
+    WAITLISTED,
+    /**
+     * Usuário válido que não foi inscrito porque o lote ALL_OR_NOTHING foi recusado.
+     */
+    SKIPPED
+}
@@ -2,6 +2,10 @@ package org.evento.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.evento.security.UsuarioPrincipalListener;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,6 +14,10 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuarios")
+@BatchSize(size = 100)
+@EntityListeners(UsuarioPrincipalListener.class)
 @Table(name = "users")
 @Getter
 @Setter
@@ -27,6 +35,9 @@ public class Usuario implements UserDetails {
     @Enumerated(EnumType.STRING)
     private UsuarioRole role;
 
+    @Version
+    private long versao;
+
     public Usuario(String username, String password, UsuarioRole role) {
         this.username = username;
         this.password = password;
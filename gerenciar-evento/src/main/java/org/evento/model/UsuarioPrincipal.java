@@ -0,0 +1,28 @@
+package org.evento.model;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * Representação enxuta e imutável do usuário autenticado, sem a senha, usada como principal
+ * das requisições autenticadas por token.
+ */
+public record UsuarioPrincipal(String id, String username, List<GrantedAuthority> authorities)
+        implements AuthenticatedPrincipal {
+
+    public UsuarioPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+
+    public UsuarioPrincipal(String id, String username, UsuarioRole role) {
+        this(id, username, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
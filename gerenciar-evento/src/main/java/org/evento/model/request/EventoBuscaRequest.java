@@ -0,0 +1,31 @@
+package org.evento.model.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filtros de GET /events/search; todos opcionais e combinados com "e".
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoBuscaRequest {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    /**
+     * Localização exata.
+     */
+    private String localizacao;
+    /**
+     * Início do nome, com diferença entre maiúsculas e minúsculas.
+     */
+    private String nome;
+}
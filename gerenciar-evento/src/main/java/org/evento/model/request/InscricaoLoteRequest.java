@@ -0,0 +1,14 @@
+package org.evento.model.request;
+
+import lombok.Builder;
+import lombok.Data;
+import org.evento.model.ModoInscricaoLote;
+
+import java.util.List;
+
+@Data
+@Builder
+public class InscricaoLoteRequest {
+    private List<String> userIds;
+    private ModoInscricaoLote mode;
+}
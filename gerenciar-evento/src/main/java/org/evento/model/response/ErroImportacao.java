@@ -0,0 +1,13 @@
+package org.evento.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ErroImportacao {
+    private long linha;
+    private String mensagem;
+}
@@ -0,0 +1,20 @@
+package org.evento.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class EventoPageResponse {
+    private List<EventoResumoResponse> eventos;
+    private String nextCursor;
+
+    /**
+     * Versão da página (ETag): muda quando algum evento dela muda ou a página passa a ter outros eventos.
+     */
+    @JsonIgnore
+    private String versao;
+}
@@ -0,0 +1,23 @@
+package org.evento.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoProximoResponse {
+    private String id;
+    private String nome;
+    private String localizacao;
+    private LocalDate data;
+    private int vagas;
+    @JsonIgnore
+    private long versao;
+}
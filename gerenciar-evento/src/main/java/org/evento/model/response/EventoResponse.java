@@ -1,5 +1,6 @@
 package org.evento.model.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.evento.model.UsuarioDTO;
 import jakarta.persistence.ElementCollection;
 import lombok.Builder;
@@ -18,5 +19,7 @@ public class EventoResponse {
     private int maxParticipantes;
     @ElementCollection
     private List<UsuarioDTO> participantes;
+    @JsonIgnore
+    private long versao;
 
 }
@@ -0,0 +1,24 @@
+package org.evento.model.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoResumoResponse {
+    private String id;
+    private String nome;
+    private String localizacao;
+    private LocalDate data;
+    private int maxParticipantes;
+    private int participantCount;
+    @JsonIgnore
+    private long versao;
+}
@@ -0,0 +1,17 @@
+package org.evento.model.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ImportacaoResponse {
+    private long imported;
+    private long failed;
+    /**
+     * Primeiros erros por linha; limitado para manter a resposta pequena em arquivos grandes.
+     */
+    private List<ErroImportacao> errors;
+}
@@ -0,0 +1,13 @@
+package org.evento.model.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class InscricaoLoteResponse {
+    private int registered;
+    private List<ResultadoInscricao> resultados;
+}
@@ -0,0 +1,17 @@
+package org.evento.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import org.evento.model.StatusInscricao;
+
+/**
+ * Resultado de uma inscrição avulsa: REGISTERED, ou WAITLISTED com a posição na fila.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class InscricaoResponse {
+    private StatusInscricao status;
+    private Long position;
+}
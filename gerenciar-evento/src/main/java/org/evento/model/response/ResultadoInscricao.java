@@ -0,0 +1,14 @@
+package org.evento.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import org.evento.model.StatusInscricao;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class ResultadoInscricao {
+    private String userId;
+    private StatusInscricao status;
+}
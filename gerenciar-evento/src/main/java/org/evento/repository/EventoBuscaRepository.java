@@ -0,0 +1,85 @@
+package org.evento.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.evento.model.request.EventoBuscaRequest;
+import org.evento.model.response.EventoResumoResponse;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Busca de eventos por período, localização e prefixo do nome, paginada pelo mesmo cursor (data, id)
+ * da listagem. A consulta é montada só com os filtros informados, para que cada um caia no seu índice
+ * (V5__indices_busca.sql) em vez de virar um "(:x is null or ...)" que obriga a varrer a tabela.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventoBuscaRepository {
+
+    private static final RowMapper<EventoResumoResponse> RESUMO = (rs, rowNum) -> {
+        Date data = rs.getDate("data");
+        return EventoResumoResponse.builder()
+                .id(rs.getString("id"))
+                .nome(rs.getString("nome"))
+                .localizacao(rs.getString("localizacao"))
+                .data(data == null ? null : data.toLocalDate())
+                .maxParticipantes(rs.getInt("max_participantes"))
+                .participantCount(rs.getInt("total_participantes"))
+                .versao(rs.getLong("versao"))
+                .build();
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * @param depoisDeData data do último evento da página anterior (null para evento sem data)
+     * @param depoisDeId   id do último evento da página anterior, ou null na primeira página
+     */
+    public List<EventoResumoResponse> search(EventoBuscaRequest filtro, LocalDate depoisDeData, String depoisDeId, int limite) {
+        Consulta consulta = consulta(filtro, depoisDeData, depoisDeId, limite);
+        return jdbcTemplate.query(consulta.sql(), consulta.parametros(), RESUMO);
+    }
+
+    Consulta consulta(EventoBuscaRequest filtro, LocalDate depoisDeData, String depoisDeId, int limite) {
+        List<String> condicoes = new ArrayList<>();
+        MapSqlParameterSource parametros = new MapSqlParameterSource("limite", limite);
+        if (filtro.getFrom() != null) {
+            condicoes.add("data >= :from");
+            parametros.addValue("from", filtro.getFrom());
+        }
+        if (filtro.getTo() != null) {
+            condicoes.add("data <= :to");
+            parametros.addValue("to", filtro.getTo());
+        }
+        if (StringUtils.hasText(filtro.getLocalizacao())) {
+            condicoes.add("localizacao = :localizacao");
+            parametros.addValue("localizacao", filtro.getLocalizacao());
+        }
+        if (StringUtils.hasText(filtro.getNome())) {
+            condicoes.add("nome like :nome escape '\\'");
+            parametros.addValue("nome", filtro.getNome().replaceAll("([\\\\%_])", "\\\\$1") + "%");
+        }
+        if (depoisDeId != null) {
+            condicoes.add(depoisDeData == null
+                    ? "data is null and id > :depoisDeId"
+                    : "(data > :depoisDeData or (data = :depoisDeData and id > :depoisDeId) or data is null)");
+            parametros.addValue("depoisDeData", depoisDeData);
+            parametros.addValue("depoisDeId", depoisDeId);
+        }
+
+        String sql = "select id, nome, localizacao, data, max_participantes, total_participantes, versao + versao_inscricoes as versao from eventos"
+                + (condicoes.isEmpty() ? "" : " where " + String.join(" and ", condicoes))
+                + " order by data asc nulls last, id asc limit :limite";
+        return new Consulta(sql, parametros);
+    }
+
+    record Consulta(String sql, MapSqlParameterSource parametros) {
+    }
+}
@@ -0,0 +1,73 @@
+package org.evento.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.evento.model.Evento;
+import org.evento.model.Inscricao;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Invalida o evento e a coleção Evento.inscricoes no cache de segundo nível quando as inscrições
+ * mudam por um caminho que o Hibernate não acompanha: inserts via JDBC, inscrições gravadas pelo
+ * lado dono (Inscricao) e linhas removidas em cascata pelo banco. Caches montados a partir do
+ * evento (como as respostas já serializadas) se registram em {@link #onEvict} e são avisados de
+ * toda alteração, inclusive das feitas pelo JPA.
+ * <p>
+ * A remoção é repetida ao fim da transação, porque uma leitura concorrente pode devolver ao cache
+ * o estado anterior ao commit.
+ */
+@Component
+public class EventoCacheEvictor {
+
+    public static final String COLECAO_INSCRICOES = Evento.class.getName() + ".inscricoes";
+
+    private final Cache cache;
+    private final List<Consumer<String>> cachesDerivados = new CopyOnWriteArrayList<>();
+
+    public EventoCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    public void onEvict(Consumer<String> cacheDerivado) {
+        cachesDerivados.add(cacheDerivado);
+    }
+
+    public void evictParticipantes(String eventId) {
+        afterCompletionToo(() -> {
+            cache.evictEntityData(Evento.class, eventId);
+            cache.evictCollectionData(COLECAO_INSCRICOES, eventId);
+            evictDerivados(eventId);
+        });
+    }
+
+    /**
+     * Para inscrições removidas em cascata pelo banco junto com o evento, que o Hibernate não vê sair.
+     */
+    public void evictInscricoes(Collection<String> inscricaoIds) {
+        afterCompletionToo(() -> inscricaoIds.forEach(id -> cache.evictEntityData(Inscricao.class, id)));
+    }
+
+    private void evictDerivados(String eventId) {
+        cachesDerivados.forEach(cacheDerivado -> cacheDerivado.accept(eventId));
+    }
+
+    private static void afterCompletionToo(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
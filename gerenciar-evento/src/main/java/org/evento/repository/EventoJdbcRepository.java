@@ -0,0 +1,89 @@
+package org.evento.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.evento.model.Evento;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escritas via JDBC: cargas em que inserir entidade por entidade pelo JPA seria caro e o contador
+ * de vagas do evento. Participa da transação corrente do Spring. Como o Hibernate não vê essas
+ * escritas, as que mudam inscrições ou vagas de eventos já cadastrados invalidam o cache de
+ * segundo nível pelo EventoCacheEvictor.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventoJdbcRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventoCacheEvictor eventoCacheEvictor;
+
+    /**
+     * Reserva uma vaga somente enquanto houver lugares disponíveis. O contador fica fora do JPQL
+     * porque um update em lote do Hibernate esvazia a região inteira de Evento no cache de segundo
+     * nível a cada inscrição; aqui só o evento alterado é invalidado.
+     *
+     * @return 1 se a vaga foi reservada, 0 se o evento está cheio ou não existe
+     */
+    public int reserveSeat(String eventId) {
+        return reserveSeats(eventId, 1);
+    }
+
+    public int reserveSeats(String eventId, int quantidade) {
+        return evictIfUpdated(eventId, jdbcTemplate.update(
+                "update eventos set total_participantes = total_participantes + ?, versao_inscricoes = versao_inscricoes + 1 " +
+                        "where id = ? and total_participantes + ? <= max_participantes",
+                quantidade, eventId, quantidade));
+    }
+
+    public int releaseSeat(String eventId) {
+        return evictIfUpdated(eventId, jdbcTemplate.update(
+                "update eventos set total_participantes = total_participantes - 1, versao_inscricoes = versao_inscricoes + 1 " +
+                        "where id = ? and total_participantes > 0",
+                eventId));
+    }
+
+    private int evictIfUpdated(String eventId, int linhas) {
+        if (linhas > 0) {
+            eventoCacheEvictor.evictParticipantes(eventId);
+        }
+        return linhas;
+    }
+
+    public void insertParticipants(String eventId, List<String> userIds) {
+        Timestamp inscritoEm = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate("insert into inscricoes (id, evento_id, usuario_id, inscrito_em) values (?, ?, ?, ?)",
+                userIds, BATCH_SIZE, (ps, userId) -> {
+                    ps.setString(1, UUID.randomUUID().toString());
+                    ps.setString(2, eventId);
+                    ps.setString(3, userId);
+                    ps.setTimestamp(4, inscritoEm);
+                });
+        eventoCacheEvictor.evictParticipantes(eventId);
+    }
+
+    public void insertEventos(List<Evento> eventos) {
+        jdbcTemplate.batchUpdate("insert into eventos (id, nome, localizacao, data, max_participantes, total_participantes, versao) " +
+                        "values (?, ?, ?, ?, ?, 0, 0)",
+                eventos, BATCH_SIZE, (ps, evento) -> {
+                    ps.setString(1, evento.getId());
+                    ps.setString(2, evento.getNome());
+                    ps.setString(3, evento.getLocalizacao());
+                    if (evento.getData() == null) {
+                        ps.setNull(4, Types.DATE);
+                    } else {
+                        ps.setDate(4, Date.valueOf(evento.getData()));
+                    }
+                    ps.setInt(5, evento.getMaxParticipantes());
+                });
+    }
+}
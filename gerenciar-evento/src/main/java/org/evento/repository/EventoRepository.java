@@ -1,6 +1,96 @@
 package org.evento.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.evento.model.Evento;
+import org.evento.model.LinhaExportacao;
+import org.evento.model.response.EventoResumoResponse;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface EventoRepository extends JpaRepository<org.evento.model.Evento, String> {
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface EventoRepository extends JpaRepository<Evento, String> {
+
+    /**
+     * Carrega todos os eventos com seus participantes em uma única consulta (fetch join),
+     * evitando uma consulta extra por evento ao montar o EventoResponse.
+     */
+    @Query("select distinct e from Evento e left join fetch e.inscricoes i left join fetch i.usuario")
+    List<Evento> findAllWithParticipantes();
+
+    /**
+     * Cursor somente-leitura sobre todos os eventos e participantes, ordenado por evento, para a
+     * exportação. Projeta escalares em vez de entidades, então nada fica no contexto de persistência
+     * enquanto o stream é consumido. Deve ser lido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new org.evento.model.LinhaExportacao(e.id, e.nome, e.localizacao, e.data, e.maxParticipantes, u.id, u.username) " +
+            "from Evento e left join e.inscricoes i left join i.usuario u order by e.id, i.inscritoEm, i.id")
+    Stream<LinhaExportacao> streamExport();
+
+    @EntityGraph(attributePaths = {"inscricoes", "inscricoes.usuario"})
+    @Query("select e from Evento e where e.id = :id")
+    Optional<Evento> findWithParticipantesById(@Param("id") String id);
+
+    @Query("select e.maxParticipantes - e.totalParticipantes from Evento e where e.id = :id")
+    Optional<Integer> findVagas(@Param("id") String id);
+
+    @Query("select e.versao + e.versaoInscricoes from Evento e where e.id = :id")
+    Optional<Long> findVersao(@Param("id") String id);
+
+    /**
+     * "id:versao" de todos os eventos, para a ETag da listagem completa sem carregar participantes.
+     */
+    @Query("select concat(e.id, ':', cast(e.versao + e.versaoInscricoes as String)) from Evento e order by e.id")
+    List<String> findAllVersoes();
+
+    /**
+     * Carrega o evento com lock de escrita na linha, serializando a reserva de vagas em lote.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Evento e where e.id = :id")
+    Optional<Evento> findForUpdate(@Param("id") String id);
+
+    String RESUMO = "select new org.evento.model.response.EventoResumoResponse(" +
+            "e.id, e.nome, e.localizacao, e.data, e.maxParticipantes, e.totalParticipantes, e.versao + e.versaoInscricoes) from Evento e ";
+
+    String ORDEM_CURSOR = " order by e.data asc nulls last, e.id asc";
+
+    @Query(RESUMO + ORDEM_CURSOR)
+    List<EventoResumoResponse> findFirstPage(Pageable pageable);
+
+    /**
+     * Resumo de todos os eventos, sem participantes, para montar o índice de busca por texto.
+     */
+    @Query(RESUMO)
+    List<EventoResumoResponse> findAllResumos();
+
+    /**
+     * Resumo dos eventos a partir de uma data, para montar o modelo de leitura dos próximos eventos.
+     */
+    @Query(RESUMO + "where e.data >= :data")
+    List<EventoResumoResponse> findResumosFrom(@Param("data") LocalDate data);
+
+    @Query(RESUMO + "where e.id in :ids")
+    List<EventoResumoResponse> findResumosByIds(@Param("ids") Collection<String> ids);
+
+    /**
+     * Próxima página depois do cursor (data, id). Eventos sem data ficam no fim da listagem.
+     */
+    @Query(RESUMO + "where e.data > :data or (e.data = :data and e.id > :id) or e.data is null" + ORDEM_CURSOR)
+    List<EventoResumoResponse> findPageAfter(@Param("data") LocalDate data, @Param("id") String id, Pageable pageable);
+
+    @Query(RESUMO + "where e.data is null and e.id > :id" + ORDEM_CURSOR)
+    List<EventoResumoResponse> findUndatedPageAfter(@Param("id") String id, Pageable pageable);
 }
@@ -0,0 +1,31 @@
+package org.evento.repository;
+
+import org.evento.model.Inscricao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface InscricaoRepository extends JpaRepository<Inscricao, String> {
+
+    @Query("select count(i) > 0 from Inscricao i where i.evento.id = :eventId and i.usuario.id = :userId")
+    boolean isRegistered(@Param("eventId") String eventId, @Param("userId") String userId);
+
+    @Query("select i.id from Inscricao i where i.evento.id = :eventId")
+    List<String> findIdsByEventoId(@Param("eventId") String eventId);
+
+    @Query("select i.usuario.id from Inscricao i where i.evento.id = :eventId and i.usuario.id in :userIds")
+    List<String> findRegisteredUserIds(@Param("eventId") String eventId, @Param("userIds") Collection<String> userIds);
+
+    /**
+     * Remove a inscrição com um único delete, sem carregar a entidade.
+     *
+     * @return 1 se a inscrição existia, 0 caso contrário
+     */
+    @Modifying
+    @Query("delete from Inscricao i where i.evento.id = :eventId and i.usuario.id = :userId")
+    int deleteRegistration(@Param("eventId") String eventId, @Param("userId") String userId);
+}
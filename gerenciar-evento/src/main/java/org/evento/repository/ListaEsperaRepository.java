@@ -0,0 +1,37 @@
+package org.evento.repository;
+
+import org.evento.model.ListaEspera;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ListaEsperaRepository extends JpaRepository<ListaEspera, Long> {
+
+    boolean existsByEventoId(String eventId);
+
+    @Query("select w.id from ListaEspera w where w.evento.id = :eventId and w.usuario.id = :userId")
+    Optional<Long> findEntryId(@Param("eventId") String eventId, @Param("userId") String userId);
+
+    /**
+     * Posição (a partir de 1) da entrada na fila do evento.
+     */
+    @Query("select count(w) from ListaEspera w where w.evento.id = :eventId and w.id <= :id")
+    long position(@Param("eventId") String eventId, @Param("id") Long id);
+
+    @Query("select w from ListaEspera w where w.evento.id = :eventId order by w.id")
+    List<ListaEspera> findNext(@Param("eventId") String eventId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from ListaEspera w where w.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ListaEspera w where w.evento.id = :eventId and w.usuario.id = :userId")
+    int deleteEntry(@Param("eventId") String eventId, @Param("userId") String userId);
+}
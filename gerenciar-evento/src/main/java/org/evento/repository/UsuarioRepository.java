@@ -1,11 +1,25 @@
 package org.evento.repository;
 
 import org.evento.model.Usuario;
+import org.evento.model.UsuarioPrincipal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, String> {
     Optional<Usuario> findByUsername(String username);
 
+    @Query("select new org.evento.model.UsuarioPrincipal(u.id, u.username, u.role) from users u where u.username = :username")
+    Optional<UsuarioPrincipal> findPrincipalByUsername(@Param("username") String username);
+
+    @Query("select u.id from users u where u.id in :ids")
+    List<String> findExistingIds(@Param("ids") Collection<String> ids);
+
+    @Query("select u.versao from users u where u.id = :id")
+    Optional<Long> findVersao(@Param("id") String id);
+
 }
\ No newline at end of file
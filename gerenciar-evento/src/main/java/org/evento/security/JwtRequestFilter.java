@@ -3,17 +3,17 @@ package org.evento.security;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import org.evento.config.exceptions.CustomException;
-import org.evento.model.Usuario;
+import org.evento.model.UsuarioPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.evento.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -32,18 +32,23 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean stateless;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         String token = recoverToken(request);
         if (token != null) {
             try {
-                String username = jwtService.validateToken(token);
-                Optional<Usuario> userOptional = usuarioRepository.findByUsername(username);
-                if (userOptional.isPresent()) {
-                    UserDetails userDetails = userOptional.get();
+                Optional<UsuarioPrincipal> principalOptional = resolvePrincipal(token);
+                if (principalOptional.isPresent()) {
+                    UsuarioPrincipal principal = principalOptional.get();
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
+                            principal, null, principal.authorities());
                     authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                 } else {
@@ -58,6 +63,22 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * No modo stateless o principal vem só das claims verificadas do token, sem acesso ao banco;
+     * caso contrário é resolvido pelo PrincipalCache.
+     */
+    private Optional<UsuarioPrincipal> resolvePrincipal(String token) {
+        if (stateless) {
+            UsuarioPrincipal principal = jwtService.validateTokenClaims(token);
+            if (principal.id() == null || principal.authorities().isEmpty()) {
+                throw new CustomException(HttpStatus.UNAUTHORIZED, "Invalid token");
+            }
+            return Optional.of(principal);
+        }
+        String username = jwtService.validateToken(token);
+        return principalCache.get(username, usuarioRepository::findPrincipalByUsername);
+    }
+
     private String recoverToken(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader("Authorization");
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
@@ -6,60 +6,127 @@ import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.evento.config.exceptions.CustomException;
-import org.evento.config.exceptions.EventFullException;
 import org.evento.model.Usuario;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import org.evento.model.UsuarioPrincipal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.private.key}")
-    private String secretKey;
+    private static final String ISSUER = "auth-api";
+    private static final String CLAIM_AUTHORITIES = "authorities";
+    private static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * Algorithm e JWTVerifier são imutáveis e seguros para uso concorrente,
+     * então são criados uma única vez em vez de a cada requisição.
+     */
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    /**
+     * Tokens já verificados, indexados pelo SHA-256 do token. Cada entrada expira junto com o token.
+     */
+    private final Cache<String, TokenVerificado> tokensVerificados;
+    private final boolean cacheEnabled;
+
+    private final Duration expiry;
+
+    private final Timer assinatura;
+    private final Timer verificacao;
+
+    /**
+     * No modo stateless os tokens têm vida curta ({@code jwt.stateless.expiry}), pois o
+     * JwtRequestFilter confia nas claims sem consultar o banco a cada requisição.
+     * O cache de tokens verificados publica "cache.*" com a tag cache=jwt-tokens; "jwt.verify" só
+     * conta as verificações que não vieram do cache. Com {@code jwt.cache.enabled=false} o cache é
+     * ignorado por completo e todo token é verificado (base de comparação dos benchmarks).
+     */
+    public JwtService(MeterRegistry meterRegistry,
+                      @Value("${jwt.private.key}") String secretKey,
+                      @Value("${jwt.cache.enabled:true}") boolean cacheEnabled,
+                      @Value("${jwt.cache.maximum-size:10000}") long maximumCacheSize,
+                      @Value("${jwt.stateless.enabled:false}") boolean stateless,
+                      @Value("${jwt.expiry:10h}") Duration expiry,
+                      @Value("${jwt.stateless.expiry:15m}") Duration statelessExpiry) {
+        this.expiry = stateless ? statelessExpiry : expiry;
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.cacheEnabled = cacheEnabled;
+        this.tokensVerificados = Caffeine.newBuilder()
+                .maximumSize(maximumCacheSize)
+                .expireAfter(new ExpiraJuntoComToken())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokensVerificados, "jwt-tokens");
+        this.assinatura = Timer.builder("jwt.sign")
+                .description("Tempo de assinatura de um token")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verificacao = Timer.builder("jwt.verify")
+                .description("Tempo de verificação da assinatura e das claims de um token fora do cache")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     public String generateToken(Authentication authentication){
         try{
             Instant now = Instant.now();
-            long expiry = 36000L;
 
             String authorities = authentication.getAuthorities().stream()
                     .map(GrantedAuthority::getAuthority)
                     .collect(Collectors.joining(" "));
 
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            return JWT.create()
-                    .withIssuer("auth-api")
+            return assinatura.record(() -> JWT.create()
+                    .withIssuer(ISSUER)
                     .withSubject(authentication.getName())
-                    .withClaim("authorities", authorities)
+                    .withClaim(CLAIM_USER_ID, userId(authentication))
+                    .withClaim(CLAIM_AUTHORITIES, authorities)
                     .withIssuedAt(Date.from(now))
-                    .withExpiresAt(Date.from(now.plusSeconds(expiry)))
-                    .sign(algorithm);
+                    .withExpiresAt(Date.from(now.plus(expiry)))
+                    .sign(algorithm));
         } catch (JWTCreationException exception) {
             throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, "Error while generating token");
         }
     }
 
     public String validateToken(String token) throws TokenExpiredException, JWTVerificationException {
+        return validateTokenClaims(token).username();
+    }
+
+    /**
+     * Verifica o token e monta o principal apenas a partir das claims (subject, uid e authorities).
+     */
+    public UsuarioPrincipal validateTokenClaims(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer("auth-api")
-                    .build();
-            return verifier.verify(token).getSubject();
+            return verify(token).principal();
         } catch (TokenExpiredException ex) {
             throw new CustomException(HttpStatus.UNAUTHORIZED, "Token expired");
         } catch (JWTVerificationException ex) {
@@ -69,11 +136,7 @@ public class JwtService {
 
     public String extractUsername(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secretKey);
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer("auth-api")
-                    .build();
-            return verifier.verify(token).getSubject();
+            return verify(token).principal().username();
         } catch (JWTVerificationException exception) {
             return null;
         }
@@ -83,4 +146,80 @@ public class JwtService {
         String username = extractUsername(token);
         return username != null && username.equals(userDetails.getUsername());
     }
+
+    public long cachedTokens() {
+        return tokensVerificados.estimatedSize();
+    }
+
+    private TokenVerificado verify(String token) {
+        if (!cacheEnabled) {
+            return verifyUncached(token);
+        }
+        String chave = digest(token);
+        TokenVerificado verificado = tokensVerificados.getIfPresent(chave);
+        if (verificado != null) {
+            return verificado;
+        }
+
+        verificado = verifyUncached(token);
+        if (verificado.expiresAt() != null) {
+            tokensVerificados.put(chave, verificado);
+        }
+        return verificado;
+    }
+
+    private TokenVerificado verifyUncached(String token) {
+        DecodedJWT jwt = verificacao.record(() -> verifier.verify(token));
+        return new TokenVerificado(toPrincipal(jwt), jwt.getExpiresAtAsInstant());
+    }
+
+    private static UsuarioPrincipal toPrincipal(DecodedJWT jwt) {
+        String authorities = jwt.getClaim(CLAIM_AUTHORITIES).asString();
+        List<GrantedAuthority> autoridades = authorities == null || authorities.isBlank()
+                ? List.of()
+                : Arrays.stream(authorities.split(" "))
+                        .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                        .toList();
+        return new UsuarioPrincipal(jwt.getClaim(CLAIM_USER_ID).asString(), jwt.getSubject(), autoridades);
+    }
+
+    private static String userId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof Usuario usuario) {
+            return usuario.getId();
+        }
+        if (authentication.getPrincipal() instanceof UsuarioPrincipal principal) {
+            return principal.id();
+        }
+        return null;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record TokenVerificado(UsuarioPrincipal principal, Instant expiresAt) {
+    }
+
+    private static class ExpiraJuntoComToken implements Expiry<String, TokenVerificado> {
+
+        @Override
+        public long expireAfterCreate(String chave, TokenVerificado token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenVerificado token, long currentTime, long currentDuration) {
+            return expireAfterCreate(chave, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenVerificado token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.evento.config.exceptions.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pool dedicado e limitado para a verificação de senha (BCrypt) do login.
+ * Uma rajada de logins ocupa apenas estas threads; com a fila cheia o login é recusado
+ * imediatamente com 503, sem prender as threads do Tomcat que atendem o restante da API.
+ */
+@Component
+public class LoginExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Timer esperaNaFila;
+    private final Timer tempoDeHash;
+
+    public LoginExecutor(MeterRegistry meterRegistry,
+                         @Value("${security.login.threads:0}") int threads,
+                         @Value("${security.login.queue-capacity:100}") int queueCapacity) {
+        int tamanho = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(tamanho, tamanho, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("login-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.esperaNaFila = Timer.builder("login.queue.wait")
+                .description("Tempo que o login aguardou na fila do pool de autenticação")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.tempoDeHash = Timer.builder("login.hash")
+                .description("Tempo de verificação das credenciais (BCrypt)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("login.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> autenticacao) {
+        long enfileirado = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                esperaNaFila.record(System.nanoTime() - enfileirado, TimeUnit.NANOSECONDS);
+                return tempoDeHash.record(autenticacao);
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Too many login attempts, try again later");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,75 @@
+package org.evento.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.evento.model.UsuarioPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache em memória dos principais autenticados, indexado pelo username do token.
+ * Limitado por tamanho e por tempo; as métricas (acertos, faltas e remoções) são publicadas como "cache.*"
+ * com a tag cache=principais.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, UsuarioPrincipal> principais;
+    private final AtomicLong geracao = new AtomicLong();
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.principais = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principais, "principais");
+    }
+
+    /**
+     * Retorna o principal em cache ou consulta o loader. Usuários inexistentes não são armazenados.
+     * O loader roda fora do compute do cache: ele faz JDBC, e bloquear dentro do monitor do mapa
+     * prenderia (pinning) a thread de suporte quando as requisições rodam em virtual threads.
+     * <p>
+     * Toda remoção avança a geração antes de remover. Se alguma acontecer durante a consulta, o
+     * principal carregado pode ser anterior à alteração e sai do cache logo depois de entrar; a
+     * conferência vem depois do put, então uma remoção entre o put e a conferência também é vista.
+     */
+    public Optional<UsuarioPrincipal> get(String username, Function<String, Optional<UsuarioPrincipal>> loader) {
+        UsuarioPrincipal principal = principais.getIfPresent(username);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+        long inicio = geracao.get();
+        Optional<UsuarioPrincipal> carregado = loader.apply(username);
+        carregado.ifPresent(encontrado -> {
+            principais.put(username, encontrado);
+            if (geracao.get() != inicio) {
+                principais.invalidate(username);
+            }
+        });
+        return carregado;
+    }
+
+    public void evict(String username) {
+        geracao.incrementAndGet();
+        principais.invalidate(username);
+    }
+
+    /**
+     * Remove o principal pelo id do usuário, cobrindo também alterações de username.
+     */
+    public void evictById(String userId) {
+        geracao.incrementAndGet();
+        principais.asMap().values().removeIf(principal -> principal.id().equals(userId));
+    }
+}
@@ -0,0 +1,25 @@
+package org.evento.security;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.evento.model.Usuario;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remove do PrincipalCache os usuários alterados ou excluídos via JPA.
+ */
+@Component
+public class UsuarioPrincipalListener {
+
+    private final PrincipalCache principalCache;
+
+    public UsuarioPrincipalListener(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Usuario usuario) {
+        principalCache.evictById(usuario.getId());
+    }
+}
@@ -0,0 +1,8 @@
+package org.evento.service;
+
+/**
+ * Publicado quando um evento é criado, alterado ou importado. Tratado pelo IndiceTextoEventos e
+ * pelo ProximosEventos depois do commit.
+ */
+public record EventoAlterado(String eventId, String nome, String localizacao) {
+}
@@ -0,0 +1,80 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.evento.model.LinhaExportacao;
+import org.evento.model.UsuarioDTO;
+import org.evento.model.response.EventoResponse;
+import org.evento.repository.EventoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exportação completa de eventos e participantes em NDJSON (um EventoResponse por linha).
+ * As linhas vêm de um cursor ordenado por evento e cada evento é escrito assim que a última
+ * linha dele é lida, então só um evento por vez fica em memória.
+ */
+@Service
+public class EventoExportService {
+
+    private final EventoRepository eventoRepository;
+    private final ObjectWriter eventoWriter;
+
+    public EventoExportService(EventoRepository eventoRepository, ObjectMapper objectMapper) {
+        this.eventoRepository = eventoRepository;
+        this.eventoWriter = objectMapper.writerFor(EventoResponse.class);
+    }
+
+    /**
+     * @return quantidade de eventos escritos
+     */
+    @Transactional(readOnly = true)
+    public long exportEvents(OutputStream out) throws IOException {
+        long exportados = 0;
+        try (Stream<LinhaExportacao> linhas = eventoRepository.streamExport()) {
+            Iterator<LinhaExportacao> iterator = linhas.iterator();
+            EventoResponse atual = null;
+            while (iterator.hasNext()) {
+                LinhaExportacao linha = iterator.next();
+                if (atual == null || !atual.getId().equals(linha.eventoId())) {
+                    if (atual != null) {
+                        write(out, atual);
+                        exportados++;
+                    }
+                    atual = toResponse(linha);
+                }
+                if (linha.usuarioId() != null) {
+                    atual.getParticipantes().add(new UsuarioDTO(linha.usuarioId(), linha.username()));
+                }
+            }
+            if (atual != null) {
+                write(out, atual);
+                exportados++;
+            }
+        }
+        out.flush();
+        return exportados;
+    }
+
+    private void write(OutputStream out, EventoResponse evento) throws IOException {
+        out.write(eventoWriter.writeValueAsBytes(evento));
+        out.write('\n');
+    }
+
+    private static EventoResponse toResponse(LinhaExportacao linha) {
+        return EventoResponse.builder()
+                .id(linha.eventoId())
+                .nome(linha.nome())
+                .localizacao(linha.localizacao())
+                .data(linha.data())
+                .maxParticipantes(linha.maxParticipantes())
+                .participantes(new ArrayList<>())
+                .build();
+    }
+}
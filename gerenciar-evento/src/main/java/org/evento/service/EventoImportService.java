@@ -0,0 +1,231 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.evento.config.exceptions.CustomException;
+import org.evento.model.Evento;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.response.ErroImportacao;
+import org.evento.model.response.ImportacaoResponse;
+import org.evento.repository.EventoJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Importação de eventos em massa a partir de NDJSON (um EventoRequest por linha) ou CSV
+ * (cabeçalho com nome, localizacao, data, maxParticipantes). O corpo é lido linha a linha e
+ * gravado em lotes JDBC, cada lote na sua transação, então o uso de memória não depende do
+ * tamanho do arquivo.
+ */
+@Service
+public class EventoImportService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    static final int MAX_ERRORS = 100;
+
+    private static final List<String> COLUNAS_CSV = List.of("nome", "localizacao", "data", "maxParticipantes");
+
+    private final EventoJdbcRepository eventoJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader eventoReader;
+    private final int batchSize;
+
+    public EventoImportService(EventoJdbcRepository eventoJdbcRepository,
+                               TransactionTemplate transactionTemplate,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               @Value("${eventos.import.batch-size:500}") int batchSize) {
+        this.eventoJdbcRepository = eventoJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.eventoReader = objectMapper.readerFor(EventoRequest.class);
+        this.batchSize = batchSize;
+    }
+
+    public ImportacaoResponse importEvents(InputStream body, MediaType contentType) throws IOException {
+        boolean csv = MediaType.parseMediaType("text/csv").isCompatibleWith(contentType);
+        if (!csv && !APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            throw new CustomException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "Unsupported import format: " + contentType);
+        }
+
+        Importacao importacao = new Importacao();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            Map<String, Integer> colunas = csv ? readCsvHeader(reader.readLine()) : null;
+            long linha = csv ? 1 : 0;
+            String conteudo;
+            while ((conteudo = reader.readLine()) != null) {
+                linha++;
+                if (conteudo.isBlank()) {
+                    continue;
+                }
+                try {
+                    EventoRequest request = csv ? parseCsv(conteudo, colunas) : parseJson(conteudo);
+                    importacao.add(linha, toEvento(request));
+                } catch (IllegalArgumentException e) {
+                    importacao.fail(linha, e.getMessage());
+                }
+            }
+        }
+        importacao.flush();
+        return ImportacaoResponse.builder()
+                .imported(importacao.importados)
+                .failed(importacao.falhas)
+                .errors(importacao.erros)
+                .build();
+    }
+
+    private EventoRequest parseJson(String conteudo) {
+        try {
+            return eventoReader.readValue(conteudo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private Map<String, Integer> readCsvHeader(String cabecalho) {
+        if (cabecalho == null) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "CSV header is missing");
+        }
+        List<String> nomes = splitCsv(cabecalho);
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < nomes.size(); i++) {
+            colunas.put(nomes.get(i).trim(), i);
+        }
+        if (!colunas.keySet().containsAll(COLUNAS_CSV)) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "CSV header must contain " + String.join(",", COLUNAS_CSV));
+        }
+        return colunas;
+    }
+
+    private EventoRequest parseCsv(String conteudo, Map<String, Integer> colunas) {
+        List<String> campos = splitCsv(conteudo);
+        if (campos.size() < colunas.size()) {
+            throw new IllegalArgumentException("Expected " + colunas.size() + " columns but found " + campos.size());
+        }
+        String data = campos.get(colunas.get("data")).trim();
+        String maxParticipantes = campos.get(colunas.get("maxParticipantes")).trim();
+        try {
+            return EventoRequest.builder()
+                    .nome(campos.get(colunas.get("nome")))
+                    .localizacao(campos.get(colunas.get("localizacao")))
+                    .data(data.isEmpty() ? null : LocalDate.parse(data))
+                    .maxParticipantes(Integer.parseInt(maxParticipantes))
+                    .build();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid data: " + data);
+        }
+    }
+
+    /**
+     * Divide uma linha CSV (RFC 4180, sem quebras de linha dentro de campos).
+     */
+    static List<String> splitCsv(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (entreAspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreAspas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        if (entreAspas) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+
+    private Evento toEvento(EventoRequest request) {
+        if (request.getNome() == null || request.getNome().isBlank()) {
+            throw new IllegalArgumentException("nome is required");
+        }
+        if (request.getMaxParticipantes() < 0) {
+            throw new IllegalArgumentException("maxParticipantes must not be negative");
+        }
+        Evento evento = new Evento();
+        evento.setId(UUID.randomUUID().toString());
+        evento.setNome(request.getNome());
+        evento.setLocalizacao(request.getLocalizacao());
+        evento.setData(request.getData());
+        evento.setMaxParticipantes(request.getMaxParticipantes());
+        return evento;
+    }
+
+    private class Importacao {
+        private List<Evento> lote = new ArrayList<>(batchSize);
+        private final List<ErroImportacao> erros = new ArrayList<>();
+        private long primeiraLinhaDoLote;
+        private long importados;
+        private long falhas;
+
+        void add(long linha, Evento evento) {
+            if (lote.isEmpty()) {
+                primeiraLinhaDoLote = linha;
+            }
+            lote.add(evento);
+            if (lote.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void fail(long linha, String mensagem) {
+            falhas++;
+            if (erros.size() < MAX_ERRORS) {
+                erros.add(new ErroImportacao(linha, mensagem));
+            }
+        }
+
+        void flush() {
+            if (lote.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    eventoJdbcRepository.insertEventos(lote);
+                    lote.forEach(evento -> eventPublisher.publishEvent(
+                            new EventoAlterado(evento.getId(), evento.getNome(), evento.getLocalizacao())));
+                });
+                importados += lote.size();
+            } catch (RuntimeException e) {
+                falhas += lote.size() - 1;
+                fail(primeiraLinhaDoLote, "Batch of " + lote.size() + " rows starting here failed: " + e.getMessage());
+            }
+            lote = new ArrayList<>(batchSize);
+        }
+    }
+}
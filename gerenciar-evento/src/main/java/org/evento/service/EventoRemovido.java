@@ -0,0 +1,8 @@
+package org.evento.service;
+
+/**
+ * Publicado quando um evento é removido. Tratado pelo IndiceTextoEventos e pelo ProximosEventos
+ * depois do commit.
+ */
+public record EventoRemovido(String eventId) {
+}
@@ -0,0 +1,102 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.evento.model.response.EventoResponse;
+import org.evento.repository.EventoCacheEvictor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Respostas de GET /events/{id} já serializadas em JSON, por evento e versão. Um acerto devolve os
+ * bytes prontos, sem montar o EventoResponse nem passar pelo Jackson. Limitado pelo total de bytes e
+ * por tempo; as métricas são publicadas como "cache.*" com a tag cache=eventos-json.
+ * <p>
+ * Toda alteração do evento chega pelo EventoCacheEvictor. Cada leitura faz uma reserva antes de
+ * consultar o banco e só grava o resultado se nenhuma invalidação removeu a reserva no meio do
+ * caminho, então uma leitura lenta nunca devolve ao cache um estado anterior à alteração. Além
+ * disso, uma resposta mais antiga que a versão lida pelo chamador nunca é servida.
+ */
+@Component
+public class EventoRespostaCache {
+
+    private final Cache<String, Resposta> respostas;
+    private final Map<String, Object> reservas = new ConcurrentHashMap<>();
+    private final ObjectWriter eventoWriter;
+
+    public EventoRespostaCache(ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               EventoCacheEvictor eventoCacheEvictor,
+                               @Value("${eventos.response-cache.maximum-size:64MB}") DataSize maximumSize,
+                               @Value("${eventos.response-cache.ttl:10m}") Duration ttl) {
+        this.eventoWriter = objectMapper.writerFor(EventoResponse.class);
+        this.respostas = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String id, Resposta resposta) -> resposta.json().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, "eventos-json");
+        eventoCacheEvictor.onEvict(this::evict);
+    }
+
+    /**
+     * @param versaoMinima versão já lida do banco; uma resposta mais antiga em cache é descartada
+     */
+    public Optional<Resposta> get(String eventId, long versaoMinima, Supplier<Optional<EventoResponse>> loader) {
+        Resposta resposta = respostas.getIfPresent(eventId);
+        if (resposta != null && resposta.versao() >= versaoMinima) {
+            return Optional.of(resposta);
+        }
+
+        Object reserva = new Object();
+        reservas.put(eventId, reserva);
+        try {
+            Optional<Resposta> carregada = loader.get()
+                    .map(evento -> new Resposta(evento.getVersao(), serialize(evento)));
+            carregada.ifPresent(nova -> reservas.computeIfPresent(eventId, (id, atual) -> {
+                if (atual == reserva) {
+                    respostas.put(id, nova);
+                }
+                return atual;
+            }));
+            return carregada;
+        } finally {
+            reservas.remove(eventId, reserva);
+        }
+    }
+
+    public void evict(String eventId) {
+        reservas.compute(eventId, (id, atual) -> {
+            respostas.invalidate(id);
+            return null;
+        });
+    }
+
+    /**
+     * JSON do EventoResponse e a versão do evento a partir da qual ele foi montado.
+     */
+    public record Resposta(long versao, byte[] json) {
+    }
+
+    private byte[] serialize(EventoResponse evento) {
+        try {
+            return eventoWriter.writeValueAsBytes(evento);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
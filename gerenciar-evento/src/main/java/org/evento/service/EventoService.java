@@ -1,32 +1,95 @@
 package org.evento.service;
 
-import org.evento.config.exceptions.EventFullException;
+import org.evento.config.exceptions.CustomException;
 import org.evento.config.exceptions.EventNotFoundException;
 import org.evento.model.Evento;
+import org.evento.model.Inscricao;
+import org.evento.model.ListaEspera;
+import org.evento.model.ModoInscricaoLote;
+import org.evento.model.StatusInscricao;
 import org.evento.model.Usuario;
 import org.evento.model.UsuarioDTO;
+import org.evento.model.request.EventoBuscaRequest;
 import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoPageResponse;
+import org.evento.model.response.EventoProximoResponse;
 import org.evento.model.response.EventoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.model.response.InscricaoLoteResponse;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.model.response.ResultadoInscricao;
+import org.evento.repository.EventoBuscaRepository;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.repository.EventoJdbcRepository;
 import org.evento.repository.EventoRepository;
+import org.evento.repository.InscricaoRepository;
+import org.evento.repository.ListaEsperaRepository;
 import lombok.RequiredArgsConstructor;
 import org.evento.repository.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventoService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private EventoRepository eventoRepository;
 
     @Autowired
     private UsuarioRepository userRepository;
 
+    @Autowired
+    private InscricaoRepository inscricaoRepository;
+
+    @Autowired
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Autowired
+    private EventoJdbcRepository eventoJdbcRepository;
+
+    @Autowired
+    private EventoBuscaRepository eventoBuscaRepository;
+
+    @Autowired
+    private IndiceTextoEventos indiceTextoEventos;
+
+    @Autowired
+    private ProximosEventos proximosEventos;
+
+    @Autowired
+    private EventoCacheEvictor eventoCacheEvictor;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public EventoResponse saveEvento(EventoRequest eventoCreateDTO) {
         Evento evento = new Evento();
         evento.setNome(eventoCreateDTO.getNome());
@@ -34,45 +97,170 @@ public class EventoService {
         evento.setLocalizacao(eventoCreateDTO.getLocalizacao());
         evento.setMaxParticipantes(eventoCreateDTO.getMaxParticipantes());
         Evento eventoSalvo = eventoRepository.save(evento);
+        eventPublisher.publishEvent(new EventoAlterado(eventoSalvo.getId(), eventoSalvo.getNome(), eventoSalvo.getLocalizacao()));
         return converterDTO(eventoSalvo);
     }
 
+    @Transactional(readOnly = true)
     public List<EventoResponse> findAll() {
-        return eventoRepository.findAll().stream()
+        return eventoRepository.findAllWithParticipantes().stream()
                 .map(this::converterDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Listagem paginada por cursor (keyset) ordenada por data e id. Cada página custa uma única
+     * consulta limitada, independente de quantas páginas vieram antes.
+     */
+    public EventoPageResponse findPage(String cursor, int size) {
+        int limite = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable pagina = PageRequest.of(0, limite + 1);
+
+        List<EventoResumoResponse> eventos;
+        if (cursor == null || cursor.isBlank()) {
+            eventos = eventoRepository.findFirstPage(pagina);
+        } else {
+            String[] posicao = decodeCursor(cursor);
+            eventos = posicao[0].isEmpty()
+                    ? eventoRepository.findUndatedPageAfter(posicao[1], pagina)
+                    : eventoRepository.findPageAfter(LocalDate.parse(posicao[0]), posicao[1], pagina);
+        }
+
+        return toPage(eventos, limite);
+    }
+
+    /**
+     * Busca por período, localização e prefixo do nome, com a mesma paginação por cursor e ETag da
+     * listagem. Cada filtro informado é resolvido por um índice de eventos.
+     */
+    public EventoPageResponse search(EventoBuscaRequest filtro, String cursor, int size) {
+        if (filtro.getFrom() != null && filtro.getTo() != null && filtro.getFrom().isAfter(filtro.getTo())) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+        }
+        int limite = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<EventoResumoResponse> eventos;
+        if (cursor == null || cursor.isBlank()) {
+            eventos = eventoBuscaRepository.search(filtro, null, null, limite + 1);
+        } else {
+            String[] posicao = decodeCursor(cursor);
+            LocalDate data = posicao[0].isEmpty() ? null : LocalDate.parse(posicao[0]);
+            eventos = eventoBuscaRepository.search(filtro, data, posicao[1], limite + 1);
+        }
+        return toPage(eventos, limite);
+    }
+
+    /**
+     * Busca por texto livre em nome e localização pelo IndiceTextoEventos, que devolve os ids já
+     * ordenados por relevância; só os resumos desses eventos são lidos do banco, em uma consulta.
+     */
+    public List<EventoResumoResponse> searchText(String texto, int size) {
+        List<String> ids = indiceTextoEventos.search(texto, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, EventoResumoResponse> resumos = eventoRepository.findResumosByIds(ids).stream()
+                .collect(Collectors.toMap(EventoResumoResponse::getId, resumo -> resumo));
+        return ids.stream()
+                .map(resumos::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Próximos eventos a partir de hoje, servidos do modelo de leitura ProximosEventos sem montar
+     * EventoResponse nem carregar participantes.
+     */
+    public List<EventoProximoResponse> findUpcoming(int size) {
+        return proximosEventos.next(Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Corta a página consultada com um evento a mais e calcula o próximo cursor e a versão (ETag).
+     */
+    private EventoPageResponse toPage(List<EventoResumoResponse> eventos, int limite) {
+        String nextCursor = null;
+        if (eventos.size() > limite) {
+            eventos = new ArrayList<>(eventos.subList(0, limite));
+            nextCursor = encodeCursor(eventos.get(limite - 1));
+        }
+        List<String> versoes = new ArrayList<>();
+        eventos.forEach(evento -> versoes.add(evento.getId() + ":" + evento.getVersao()));
+        versoes.add(String.valueOf(nextCursor));
+        return EventoPageResponse.builder()
+                .eventos(eventos)
+                .nextCursor(nextCursor)
+                .versao(digest(versoes))
+                .build();
+    }
+
+    /**
+     * Versão atual do evento, sem carregar o evento nem os participantes: permite responder
+     * 304 a um If-None-Match antes de montar o EventoResponse.
+     */
+    public Optional<Long> findVersion(String id) {
+        return eventoRepository.findVersao(id);
+    }
+
+    /**
+     * Versão da listagem completa, a partir de id e versão de cada evento. Muda quando qualquer
+     * evento é criado, alterado, removido ou recebe inscrições.
+     */
+    public String findAllVersion() {
+        return digest(eventoRepository.findAllVersoes());
+    }
+
+    /**
+     * Lê o evento pelo id, e não por consulta, para que evento, inscrições e usuários venham do
+     * cache de segundo nível quando já estiverem nele.
+     */
+    @Transactional(readOnly = true)
     public Optional<EventoResponse> findById(String id) {
         return Optional.ofNullable(eventoRepository.findById(id)
                 .map(this::converterDTO)
                 .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id)));
     }
 
+    @Transactional
     public Optional<EventoResponse> updateEvent(String id, EventoRequest eventUpdateDTO) {
-        return Optional.ofNullable(eventoRepository.findById(id)
+        return Optional.ofNullable(eventoRepository.findWithParticipantesById(id)
                 .map(existingEvent -> {
+                    if (eventUpdateDTO.getMaxParticipantes() > existingEvent.getMaxParticipantes()) {
+                        eventPublisher.publishEvent(new PromocaoListaEspera(id));
+                    }
                     existingEvent.setNome(eventUpdateDTO.getNome());
                     existingEvent.setData(eventUpdateDTO.getData());
                     existingEvent.setLocalizacao(eventUpdateDTO.getLocalizacao());
                     existingEvent.setMaxParticipantes(eventUpdateDTO.getMaxParticipantes());
                     Evento updatedEvent = eventoRepository.save(existingEvent);
+                    // Uma inscrição concorrente não muda o @Version, então o evento salvo pode levar ao
+                    // cache de segundo nível um contador e uma versão de inscrições já ultrapassados.
+                    eventoCacheEvictor.evictParticipantes(id);
+                    eventPublisher.publishEvent(new EventoAlterado(id, updatedEvent.getNome(), updatedEvent.getLocalizacao()));
                     return converterDTO(updatedEvent);
                 }).orElseThrow(() -> new EventNotFoundException("Event not found with id: " + id)));
     }
 
     public void deleteById(String id) {
         if (eventoRepository.existsById(id)) {
+            List<String> inscricoes = inscricaoRepository.findIdsByEventoId(id);
             eventoRepository.deleteById(id);
+            eventoCacheEvictor.evictParticipantes(id);
+            eventoCacheEvictor.evictInscricoes(inscricoes);
+            eventPublisher.publishEvent(new EventoRemovido(id));
         } else {
             throw new EventNotFoundException("Event not found with id: " + id);
         }
     }
 
-    private EventoResponse converterDTO(Evento evento) {
-        List<UsuarioDTO> participantes = Optional.ofNullable(evento.getParticipantes())
+    /**
+     * Visível no pacote para o benchmark de conversão (gerenciar-evento-benchmarks).
+     */
+    EventoResponse converterDTO(Evento evento) {
+        List<UsuarioDTO> participantes = Optional.ofNullable(evento.getInscricoes())
                 .orElse(Collections.emptyList())
                 .stream()
+                .map(Inscricao::getUsuario)
                 .map(this::convertToUserDTO)
                 .collect(Collectors.toList());
 
@@ -83,39 +271,198 @@ public class EventoService {
                 .localizacao(evento.getLocalizacao())
                 .participantes(participantes)
                 .maxParticipantes(evento.getMaxParticipantes())
+                .versao(evento.getVersaoPublica())
                 .build();
     }
 
-    public void registerForEvent(String eventId, String userId) {
-        Evento evento = eventoRepository.findById(eventId)
-                .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + eventId));
-        if (evento.isFull()) {
-            throw new EventFullException("Event has reached maximum capacity of participants.");
+    private static String digest(List<String> versoes) {
+        return DigestUtils.md5DigestAsHex(String.join("\n", versoes).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Inscreve o usuário reservando a vaga com uma atualização condicional no contador do evento,
+     * sem carregar a lista de participantes. Inscrições simultâneas nunca ultrapassam o limite.
+     * Com o evento lotado, ou com fila já formada, o usuário entra na lista de espera. Inscrições
+     * simultâneas do mesmo usuário esbarram na chave única e recebem o mesmo 409 da verificação.
+     */
+    @Transactional
+    public InscricaoResponse registerForEvent(String eventId, String userId) {
+        if (!eventoRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found with id: " + eventId);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new EventNotFoundException("User not found with id: " + userId);
+        }
+        if (inscricaoRepository.isRegistered(eventId, userId)) {
+            throw new CustomException(HttpStatus.CONFLICT, "User is already registered for the event with id: " + eventId);
+        }
+        if (listaEsperaRepository.existsByEventoId(eventId) || eventoJdbcRepository.reserveSeat(eventId) == 0) {
+            return joinWaitlist(eventId, userId);
         }
 
-        Usuario usuario = userRepository.findById(userId)
-                .orElseThrow(() -> new EventNotFoundException("User not found with id: " + userId));
+        try {
+            inscricaoRepository.saveAndFlush(new Inscricao(eventoRepository.getReferenceById(eventId),
+                    userRepository.getReferenceById(userId)));
+        } catch (DataIntegrityViolationException e) {
+            // Inscrição concorrente do mesmo usuário passou pela verificação acima; o rollback
+            // desta transação devolve a vaga reservada.
+            throw new CustomException(HttpStatus.CONFLICT, "User is already registered for the event with id: " + eventId);
+        }
+        eventoCacheEvictor.evictParticipantes(eventId);
+        return InscricaoResponse.builder().status(StatusInscricao.REGISTERED).build();
+    }
 
-        evento.getParticipantes().add(usuario);
-        eventoRepository.save(evento);
+    /**
+     * Coloca o usuário no fim da fila (ou devolve a posição atual, se já estiver nela) e pede
+     * uma passada do promotor, caso uma vaga tenha aberto enquanto a fila era formada. Se uma
+     * entrada simultânea do mesmo usuário chegar antes, a chave única da fila responde 409.
+     * <p>
+     * O evento é bloqueado antes de conferir a inscrição de novo: uma inscrição simultânea do mesmo
+     * usuário segura a linha desde a reserva da vaga, então aqui ela já está confirmada e é vista,
+     * e o usuário recebe 409 em vez de ficar inscrito e na fila ao mesmo tempo.
+     */
+    private InscricaoResponse joinWaitlist(String eventId, String userId) {
+        eventoRepository.findForUpdate(eventId);
+        if (inscricaoRepository.isRegistered(eventId, userId)) {
+            throw new CustomException(HttpStatus.CONFLICT, "User is already registered for the event with id: " + eventId);
+        }
+        Long entrada = listaEsperaRepository.findEntryId(eventId, userId)
+                .orElseGet(() -> insertWaitlistEntry(eventId, userId));
+        eventPublisher.publishEvent(new PromocaoListaEspera(eventId));
+        return InscricaoResponse.builder()
+                .status(StatusInscricao.WAITLISTED)
+                .position(listaEsperaRepository.position(eventId, entrada))
+                .build();
     }
 
-    public void unregisterFromEvent(String eventId, String userId) {
-        Evento evento = eventoRepository.findById(eventId)
+    private Long insertWaitlistEntry(String eventId, String userId) {
+        try {
+            return listaEsperaRepository.saveAndFlush(new ListaEspera(eventoRepository.getReferenceById(eventId),
+                    userRepository.getReferenceById(userId))).getId();
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(HttpStatus.CONFLICT, "User is already on the waitlist for the event with id: " + eventId);
+        }
+    }
+
+    /**
+     * Inscreve vários usuários de uma vez: valida os ids em uma consulta, reserva as vagas do lote
+     * com o evento bloqueado e insere as inscrições com JDBC em lote. O resultado traz o status
+     * de cada id, na ordem recebida.
+     * <p>
+     * Como na inscrição avulsa, com lista de espera formada as vagas livres são de quem está na fila:
+     * o lote não ocupa nenhuma (os candidatos ficam com EVENT_FULL) e o promotor é acionado.
+     */
+    @Transactional
+    public InscricaoLoteResponse registerBatch(String eventId, InscricaoLoteRequest request) {
+        List<String> userIds = Optional.ofNullable(request.getUserIds()).orElse(Collections.emptyList());
+        if (userIds.isEmpty() || userIds.size() > MAX_BATCH_SIZE) {
+            throw new CustomException(HttpStatus.BAD_REQUEST,
+                    "userIds must contain between 1 and " + MAX_BATCH_SIZE + " ids");
+        }
+        ModoInscricaoLote modo = Optional.ofNullable(request.getMode()).orElse(ModoInscricaoLote.BEST_EFFORT);
+
+        Evento evento = eventoRepository.findForUpdate(eventId)
                 .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + eventId));
 
-        Usuario user = userRepository.findById(userId)
-                .orElseThrow(() -> new EventNotFoundException("User not found with id: " + userId));
+        Set<String> unicos = new LinkedHashSet<>(userIds);
+        Set<String> existentes = new HashSet<>(userRepository.findExistingIds(unicos));
+        Set<String> inscritos = new HashSet<>(inscricaoRepository.findRegisteredUserIds(eventId, unicos));
 
-        if (!evento.getParticipantes().contains(user)) {
-            throw new EventNotFoundException("User is not registered for the evento with id: " + eventId);
+        Map<String, StatusInscricao> status = new HashMap<>();
+        List<String> candidatos = new ArrayList<>();
+        for (String userId : unicos) {
+            if (!existentes.contains(userId)) {
+                status.put(userId, StatusInscricao.USER_NOT_FOUND);
+            } else if (inscritos.contains(userId)) {
+                status.put(userId, StatusInscricao.ALREADY_REGISTERED);
+            } else {
+                candidatos.add(userId);
+            }
         }
 
-        evento.getParticipantes().remove(user);
-        eventoRepository.save(evento);
+        boolean filaFormada = listaEsperaRepository.existsByEventoId(eventId);
+        int vagas = filaFormada ? 0 : Math.max(0, evento.getMaxParticipantes() - evento.getTotalParticipantes());
+        boolean loteRecusado = modo == ModoInscricaoLote.ALL_OR_NOTHING
+                && (candidatos.size() > vagas || status.containsValue(StatusInscricao.USER_NOT_FOUND));
+        List<String> aceitos = loteRecusado
+                ? Collections.emptyList()
+                : candidatos.subList(0, Math.min(candidatos.size(), vagas));
+
+        for (int i = 0; i < candidatos.size(); i++) {
+            if (i >= vagas) {
+                status.put(candidatos.get(i), StatusInscricao.EVENT_FULL);
+            } else {
+                status.put(candidatos.get(i), loteRecusado ? StatusInscricao.SKIPPED : StatusInscricao.REGISTERED);
+            }
+        }
+
+        if (!aceitos.isEmpty() && eventoJdbcRepository.reserveSeats(eventId, aceitos.size()) == 0) {
+            // Não acontece com o evento bloqueado, mas nenhuma inscrição é gravada sem a vaga reservada.
+            aceitos.forEach(userId -> status.put(userId, StatusInscricao.EVENT_FULL));
+            aceitos = Collections.emptyList();
+        }
+        if (!aceitos.isEmpty()) {
+            eventoJdbcRepository.insertParticipants(eventId, aceitos);
+        }
+        if (filaFormada) {
+            eventPublisher.publishEvent(new PromocaoListaEspera(eventId));
+        }
+
+        Set<String> vistos = new HashSet<>();
+        List<ResultadoInscricao> resultados = userIds.stream()
+                .map(userId -> new ResultadoInscricao(userId,
+                        vistos.add(userId) ? status.get(userId) : StatusInscricao.DUPLICATE))
+                .collect(Collectors.toList());
+        return InscricaoLoteResponse.builder()
+                .registered(aceitos.size())
+                .resultados(resultados)
+                .build();
     }
 
+    /**
+     * Cancela a inscrição liberando a vaga para a lista de espera, ou tira o usuário da fila
+     * se ele ainda estiver esperando.
+     */
+    @Transactional
+    public void unregisterFromEvent(String eventId, String userId) {
+        if (!eventoRepository.existsById(eventId)) {
+            throw new EventNotFoundException("Event not found with id: " + eventId);
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new EventNotFoundException("User not found with id: " + userId);
+        }
+        if (inscricaoRepository.deleteRegistration(eventId, userId) == 0) {
+            if (listaEsperaRepository.deleteEntry(eventId, userId) == 0) {
+                throw new EventNotFoundException("User is not registered for the evento with id: " + eventId);
+            }
+            return;
+        }
+
+        eventoJdbcRepository.releaseSeat(eventId);
+        eventoCacheEvictor.evictParticipantes(eventId);
+        eventPublisher.publishEvent(new PromocaoListaEspera(eventId));
+    }
 
+    private String encodeCursor(EventoResumoResponse ultimo) {
+        String data = ultimo.getData() == null ? "" : ultimo.getData().toString();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((data + "|" + ultimo.getId()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] posicao = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (posicao.length != 2 || posicao[1].isEmpty()) {
+                throw new IllegalArgumentException(cursor);
+            }
+            if (!posicao[0].isEmpty()) {
+                LocalDate.parse(posicao[0]);
+            }
+            return posicao;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor);
+        }
+    }
 
     private UsuarioDTO convertToUserDTO(Usuario usuario) {
         return new UsuarioDTO(usuario.getId(), usuario.getUsername());
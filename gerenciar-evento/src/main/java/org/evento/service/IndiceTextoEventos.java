@@ -0,0 +1,253 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.evento.repository.EventoRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória sobre nome e localização dos eventos, para busca por texto livre sem
+ * varrer a tabela com LIKE '%x%'. Os termos são normalizados (minúsculas, sem acentos: "São João"
+ * vira "sao" e "joao") e cada palavra da busca casa com os termos que começam por ela. Todas as
+ * palavras precisam casar; o ranking soma os pesos, e um termo completo vale mais que um prefixo e
+ * o nome mais que a localização.
+ * <p>
+ * Montado na subida a partir do EventoRepository e mantido pelos EventoAlterado/EventoRemovido que
+ * o EventoService publica, aplicados depois do commit. As escritas são serializadas; as buscas não
+ * bloqueiam e podem ver um evento no meio de uma atualização.
+ * <p>
+ * Métricas: "eventos.search.index.documents", "eventos.search.index.terms" e
+ * "eventos.search.index.memory" (estimativa em bytes).
+ */
+@Component
+public class IndiceTextoEventos {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int PESO_NOME = 2;
+    private static final int PESO_LOCALIZACAO = 1;
+    private static final int BONUS_TERMO_COMPLETO = 2;
+
+    private static final Comparator<Map.Entry<String, Integer>> RANKING =
+            Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    /**
+     * termo -> (id do evento -> peso do termo no evento)
+     */
+    private final ConcurrentSkipListMap<String, Map<String, Integer>> termos = new ConcurrentSkipListMap<>();
+
+    /**
+     * id do evento -> termos indexados, para conferir as palavras seguintes da busca e para desfazer
+     * a entrada anterior numa alteração ou remoção.
+     */
+    private final Map<String, Documento> documentos = new ConcurrentHashMap<>();
+
+    public IndiceTextoEventos(EventoRepository eventoRepository, MeterRegistry meterRegistry) {
+        eventoRepository.findAllResumos().forEach(evento -> index(evento.getId(), evento.getNome(), evento.getLocalizacao()));
+
+        Gauge.builder("eventos.search.index.documents", documentos, Map::size)
+                .description("Eventos no índice de busca por texto")
+                .register(meterRegistry);
+        Gauge.builder("eventos.search.index.terms", termos, Map::size)
+                .description("Termos distintos no índice de busca por texto")
+                .register(meterRegistry);
+        Gauge.builder("eventos.search.index.memory", this, IndiceTextoEventos::estimateMemory)
+                .description("Memória estimada do índice de busca por texto")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlterado(EventoAlterado alterado) {
+        index(alterado.eventId(), alterado.nome(), alterado.localizacao());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemovido(EventoRemovido removido) {
+        remove(removido.eventId());
+    }
+
+    public synchronized void index(String eventId, String nome, String localizacao) {
+        Map<String, Integer> pesos = new HashMap<>();
+        tokenize(nome).forEach(termo -> pesos.merge(termo, PESO_NOME, Integer::sum));
+        tokenize(localizacao).forEach(termo -> pesos.merge(termo, PESO_LOCALIZACAO, Integer::sum));
+
+        Documento anterior = documentos.put(eventId, Documento.of(pesos));
+        if (anterior != null) {
+            for (String termo : anterior.termos()) {
+                if (!pesos.containsKey(termo)) {
+                    removePosting(termo, eventId);
+                }
+            }
+        }
+        pesos.forEach((termo, peso) -> termos.computeIfAbsent(termo, t -> new ConcurrentHashMap<>()).put(eventId, peso));
+    }
+
+    public synchronized void remove(String eventId) {
+        Documento anterior = documentos.remove(eventId);
+        if (anterior != null) {
+            for (String termo : anterior.termos()) {
+                removePosting(termo, eventId);
+            }
+        }
+    }
+
+    /**
+     * Ids dos eventos que casam com todas as palavras da busca, do mais para o menos relevante
+     * (empate pelo id). Os candidatos saem da palavra mais seletiva; as demais são conferidas nos
+     * termos de cada candidato, sem percorrer os postings delas.
+     */
+    public List<String> search(String texto, int limite) {
+        List<String> palavras = tokenize(texto).stream()
+                .distinct()
+                .sorted(Comparator.comparingLong(this::estimateMatches))
+                .toList();
+        if (palavras.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Integer> pontuacao = match(palavras.get(0));
+        for (String palavra : palavras.subList(1, palavras.size())) {
+            pontuacao.entrySet().removeIf(candidato -> {
+                Documento documento = documentos.get(candidato.getKey());
+                int pontos = documento == null ? 0 : documento.score(palavra);
+                candidato.setValue(candidato.getValue() + pontos);
+                return pontos == 0;
+            });
+        }
+        return top(pontuacao, limite);
+    }
+
+    public int size() {
+        return documentos.size();
+    }
+
+    /**
+     * Minúsculas sem acentos, separadas em tudo que não for letra ou dígito.
+     */
+    static List<String> tokenize(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Melhor peso de cada evento entre os termos que começam pela palavra.
+     */
+    private Map<String, Integer> match(String palavra) {
+        Map<String, Integer> casados = new HashMap<>();
+        faixa(palavra).forEach((termo, postings) -> {
+            int bonus = termo.length() == palavra.length() ? BONUS_TERMO_COMPLETO : 1;
+            postings.forEach((id, peso) -> casados.merge(id, peso * bonus, Math::max));
+        });
+        return casados;
+    }
+
+    /**
+     * Quantos postings os termos que começam pela palavra somam, sem percorrê-los.
+     */
+    private long estimateMatches(String palavra) {
+        long total = 0;
+        for (Map<String, Integer> postings : faixa(palavra).values()) {
+            total += postings.size();
+        }
+        return total;
+    }
+
+    /**
+     * Os melhores em um heap limitado, sem ordenar todos os candidatos.
+     */
+    private static List<String> top(Map<String, Integer> pontuacao, int limite) {
+        PriorityQueue<Map.Entry<String, Integer>> melhores = new PriorityQueue<>(RANKING.reversed());
+        for (Map.Entry<String, Integer> candidato : pontuacao.entrySet()) {
+            melhores.add(candidato);
+            if (melhores.size() > limite) {
+                melhores.poll();
+            }
+        }
+        List<Map.Entry<String, Integer>> ordenados = new ArrayList<>(melhores);
+        ordenados.sort(RANKING);
+        return ordenados.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private NavigableMap<String, Map<String, Integer>> faixa(String palavra) {
+        return termos.subMap(palavra, true, palavra + Character.MAX_VALUE, false);
+    }
+
+    private void removePosting(String termo, String eventId) {
+        termos.computeIfPresent(termo, (t, postings) -> {
+            postings.remove(eventId);
+            return postings.isEmpty() ? null : postings;
+        });
+    }
+
+    /**
+     * Estimativa grosseira para a JVM de 64 bits com ponteiros comprimidos: cada termo custa a String,
+     * o nó da skip list e o mapa de postings; cada posting, um nó de hash; cada documento, a entrada
+     * no mapa e os dois arrays. Os ids são compartilhados com os eventos e não entram na conta.
+     */
+    private double estimateMemory() {
+        long bytes = 0;
+        for (Map.Entry<String, Map<String, Integer>> termo : termos.entrySet()) {
+            bytes += 40 + termo.getKey().length() + 32 + 64 + 48L * termo.getValue().size();
+        }
+        for (Documento documento : documentos.values()) {
+            bytes += 32 + 48 + 24 + 8L * documento.termos().length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Termos de um evento em arrays paralelos, que a busca percorre bem mais rápido que um mapa.
+     */
+    private record Documento(String[] termos, int[] pesos) {
+
+        static Documento of(Map<String, Integer> pesos) {
+            String[] termos = pesos.keySet().toArray(String[]::new);
+            int[] valores = new int[termos.length];
+            for (int i = 0; i < termos.length; i++) {
+                valores[i] = pesos.get(termos[i]);
+            }
+            return new Documento(termos, valores);
+        }
+
+        /**
+         * Melhor peso da palavra entre os termos do evento, ou 0 se nenhum começa por ela.
+         */
+        int score(String palavra) {
+            int melhor = 0;
+            for (int i = 0; i < termos.length; i++) {
+                if (termos[i].startsWith(palavra)) {
+                    int bonus = termos[i].length() == palavra.length() ? BONUS_TERMO_COMPLETO : 1;
+                    melhor = Math.max(melhor, pesos[i] * bonus);
+                }
+            }
+            return melhor;
+        }
+    }
+}
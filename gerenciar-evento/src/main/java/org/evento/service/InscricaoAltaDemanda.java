@@ -0,0 +1,288 @@
+package org.evento.service;
+
+import jakarta.annotation.PreDestroy;
+import org.evento.config.exceptions.CustomException;
+import org.evento.config.exceptions.EventNotFoundException;
+import org.evento.model.StatusInscricao;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.repository.EventoJdbcRepository;
+import org.evento.repository.EventoRepository;
+import org.evento.repository.InscricaoRepository;
+import org.evento.repository.ListaEsperaRepository;
+import org.evento.repository.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Modo "evento quente", ativado por evento em {@code eventos.hot.event-ids}. As inscrições avulsas
+ * desses eventos entram em uma fila em memória com um único escritor por evento, que decide a
+ * admissão contra um contador de vagas em memória e grava os aceitos em lote, em uma transação
+ * por lote. Assim uma corrida por ingressos vira poucas transações em sequência em vez de milhares
+ * de transações disputando a mesma linha do evento.
+ * <p>
+ * Quem não consegue vaga segue pelo caminho normal do EventoService, que coloca o usuário na
+ * lista de espera. O atendimento é por instância: com várias instâncias, cada uma tem seu escritor
+ * e a atualização condicional de vagas continua impedindo que o evento passe do limite.
+ * <p>
+ * Se o lote esbarrar na chave única (um usuário inscrito por outro caminho entre a conferência e o
+ * insert), nenhum pedido do lote é perdido: cada um segue pelo caminho normal, individualmente.
+ */
+@Component
+public class InscricaoAltaDemanda {
+
+    private final Set<String> eventosQuentes;
+    private final EventoService eventoService;
+    private final EventoRepository eventoRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final ListaEsperaRepository listaEsperaRepository;
+    private final EventoJdbcRepository eventoJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Duration timeout;
+
+    private final Map<String, Escritor> escritores = new ConcurrentHashMap<>();
+    private volatile boolean encerrado;
+
+    public InscricaoAltaDemanda(@Value("${eventos.hot.event-ids:}") Set<String> eventosQuentes,
+                                EventoService eventoService,
+                                EventoRepository eventoRepository,
+                                UsuarioRepository usuarioRepository,
+                                InscricaoRepository inscricaoRepository,
+                                ListaEsperaRepository listaEsperaRepository,
+                                EventoJdbcRepository eventoJdbcRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${eventos.hot.batch-size:200}") int batchSize,
+                                @Value("${eventos.hot.queue-capacity:10000}") int queueCapacity,
+                                @Value("${eventos.hot.timeout:30s}") Duration timeout) {
+        this.eventosQuentes = Set.copyOf(eventosQuentes);
+        this.eventoService = eventoService;
+        this.eventoRepository = eventoRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.inscricaoRepository = inscricaoRepository;
+        this.listaEsperaRepository = listaEsperaRepository;
+        this.eventoJdbcRepository = eventoJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+    }
+
+    public boolean isHot(String eventId) {
+        return eventosQuentes.contains(eventId);
+    }
+
+    /**
+     * Inscreve pelo escritor do evento. Deve ser chamado fora de transação: a thread da
+     * requisição espera o lote ser gravado, por até {@code eventos.hot.timeout}. Passado o prazo
+     * a resposta é 503, mas o pedido continua na fila e ainda pode ser gravado.
+     */
+    public InscricaoResponse register(String eventId, String userId) {
+        if (encerrado) {
+            throw indisponivel();
+        }
+        StatusInscricao status;
+        try {
+            status = escritores.computeIfAbsent(eventId, Escritor::new).submit(userId)
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Registration queue timed out, try again later");
+            }
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+
+        return switch (status) {
+            case REGISTERED -> InscricaoResponse.builder().status(StatusInscricao.REGISTERED).build();
+            case USER_NOT_FOUND -> throw new EventNotFoundException("User not found with id: " + userId);
+            case ALREADY_REGISTERED, DUPLICATE -> throw new CustomException(HttpStatus.CONFLICT,
+                    "User is already registered for the event with id: " + eventId);
+            default -> eventoService.registerForEvent(eventId, userId);
+        };
+    }
+
+    /**
+     * Vagas podem ter sido liberadas por outro caminho (cancelamento, aumento de capacidade):
+     * o escritor recarrega o contador do banco antes do próximo lote.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromocao(PromocaoListaEspera promocao) {
+        Escritor escritor = escritores.get(promocao.eventId());
+        if (escritor != null) {
+            escritor.recarregar = true;
+        }
+    }
+
+    /**
+     * Para os escritores; quem ainda estava na fila recebe 503 em vez de esperar até o timeout.
+     */
+    @PreDestroy
+    public void shutdown() {
+        encerrado = true;
+        escritores.values().forEach(escritor -> {
+            escritor.thread.interrupt();
+            escritor.recusarPendentes();
+        });
+    }
+
+    private static CustomException indisponivel() {
+        return new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Registration queue is shutting down, try again later");
+    }
+
+    private record Pedido(String userId, CompletableFuture<StatusInscricao> resultado) {
+    }
+
+    private class Escritor implements Runnable {
+
+        private final String eventId;
+        private final BlockingQueue<Pedido> fila = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+
+        /**
+         * Vagas que o escritor ainda pode conceder. Negativo enquanto não foi carregado do banco.
+         */
+        private int vagas = -1;
+        private volatile boolean recarregar = true;
+
+        Escritor(String eventId) {
+            this.eventId = eventId;
+            this.thread = new Thread(this, "inscricao-quente-" + eventId);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        CompletableFuture<StatusInscricao> submit(String userId) {
+            Pedido pedido = new Pedido(userId, new CompletableFuture<>());
+            if (!fila.offer(pedido)) {
+                throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Registration queue is full, try again later");
+            }
+            if (encerrado) {
+                recusarPendentes();
+            }
+            return pedido.resultado();
+        }
+
+        void recusarPendentes() {
+            List<Pedido> pendentes = new ArrayList<>();
+            fila.drainTo(pendentes);
+            pendentes.forEach(pedido -> pedido.resultado().completeExceptionally(indisponivel()));
+        }
+
+        @Override
+        public void run() {
+            List<Pedido> lote = new ArrayList<>(batchSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    lote.add(fila.take());
+                } catch (InterruptedException e) {
+                    recusarPendentes();
+                    return;
+                }
+                fila.drainTo(lote, batchSize - 1);
+                process(lote);
+                lote.clear();
+            }
+        }
+
+        /**
+         * O mesmo usuário pode aparecer mais de uma vez no lote (cliques repetidos): a admissão
+         * considera cada usuário uma vez e só o primeiro pedido recebe o resultado; os demais
+         * recebem DUPLICATE, que vira o mesmo 409 de quem já está inscrito. Se o lote violar a chave
+         * única, todos recebem SKIPPED e são inscritos um a um pelo EventoService.
+         */
+        private void process(List<Pedido> lote) {
+            try {
+                Map<String, StatusInscricao> status = transactionTemplate.execute(tx -> admit(lote));
+                Set<String> vistos = new HashSet<>();
+                lote.forEach(pedido -> {
+                    StatusInscricao resultado = status.get(pedido.userId());
+                    pedido.resultado().complete(vistos.add(pedido.userId()) || resultado == StatusInscricao.USER_NOT_FOUND
+                            ? resultado
+                            : StatusInscricao.DUPLICATE);
+                });
+            } catch (DataIntegrityViolationException e) {
+                recarregar = true;
+                lote.forEach(pedido -> pedido.resultado().complete(StatusInscricao.SKIPPED));
+            } catch (RuntimeException e) {
+                recarregar = true;
+                lote.forEach(pedido -> pedido.resultado().completeExceptionally(e));
+            }
+        }
+
+        private Map<String, StatusInscricao> admit(List<Pedido> lote) {
+            if (recarregar) {
+                reload();
+            }
+
+            Map<String, StatusInscricao> status = new LinkedHashMap<>();
+            lote.forEach(pedido -> status.put(pedido.userId(), StatusInscricao.EVENT_FULL));
+            if (vagas == 0) {
+                return status;
+            }
+
+            Set<String> existentes = new HashSet<>(usuarioRepository.findExistingIds(status.keySet()));
+            Set<String> inscritos = new HashSet<>(inscricaoRepository.findRegisteredUserIds(eventId, status.keySet()));
+            List<String> candidatos = new ArrayList<>();
+            for (String userId : status.keySet()) {
+                if (!existentes.contains(userId)) {
+                    status.put(userId, StatusInscricao.USER_NOT_FOUND);
+                } else if (inscritos.contains(userId)) {
+                    status.put(userId, StatusInscricao.ALREADY_REGISTERED);
+                } else {
+                    candidatos.add(userId);
+                }
+            }
+
+            List<String> aceitos = candidatos.subList(0, Math.min(candidatos.size(), vagas));
+            if (!aceitos.isEmpty() && eventoJdbcRepository.reserveSeats(eventId, aceitos.size()) == 0) {
+                // Outro caminho (lote, promotor) consumiu vagas: confere o banco e tenta com o que sobrou.
+                reload();
+                aceitos = candidatos.subList(0, Math.min(candidatos.size(), vagas));
+                if (!aceitos.isEmpty() && eventoJdbcRepository.reserveSeats(eventId, aceitos.size()) == 0) {
+                    aceitos = List.of();
+                }
+            }
+            if (!aceitos.isEmpty()) {
+                eventoJdbcRepository.insertParticipants(eventId, aceitos);
+                aceitos.forEach(userId -> status.put(userId, StatusInscricao.REGISTERED));
+            }
+            vagas = aceitos.isEmpty() && !candidatos.isEmpty() ? 0 : vagas - aceitos.size();
+            return status;
+        }
+
+        /**
+         * Lê as vagas do banco. Com lista de espera formada o escritor não concede vagas: quem está
+         * na fila tem prioridade e é atendido pelo ListaEsperaPromoter.
+         */
+        private void reload() {
+            recarregar = false;
+            int livres = eventoRepository.findVagas(eventId)
+                    .orElseThrow(() -> new EventNotFoundException("Event not found with id: " + eventId));
+            vagas = listaEsperaRepository.existsByEventoId(eventId) ? 0 : Math.max(0, livres);
+        }
+    }
+}
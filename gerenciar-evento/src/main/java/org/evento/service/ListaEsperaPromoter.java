@@ -0,0 +1,142 @@
+package org.evento.service;
+
+import org.evento.model.Evento;
+import org.evento.model.ListaEspera;
+import org.evento.repository.EventoJdbcRepository;
+import org.evento.repository.EventoRepository;
+import org.evento.repository.InscricaoRepository;
+import org.evento.repository.ListaEsperaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Move usuários da lista de espera para as vagas livres, em segundo plano e em lotes.
+ * Pedidos para o mesmo evento que chegam enquanto outro aguarda na fila são agrupados, então
+ * uma rajada de cancelamentos ou de entradas na fila vira uma única passada do promotor.
+ * As passadas rodam no applicationTaskExecutor, então seguem o perfil virtual-threads quando ativo;
+ * passadas simultâneas do mesmo evento se revezam no lock da linha do evento.
+ */
+@Component
+public class ListaEsperaPromoter {
+
+    private static final Logger log = LoggerFactory.getLogger(ListaEsperaPromoter.class);
+
+    private final EventoRepository eventoRepository;
+    private final InscricaoRepository inscricaoRepository;
+    private final ListaEsperaRepository listaEsperaRepository;
+    private final EventoJdbcRepository eventoJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+    private final int batchSize;
+
+    private final Set<String> pendentes = ConcurrentHashMap.newKeySet();
+
+    public ListaEsperaPromoter(EventoRepository eventoRepository,
+                               InscricaoRepository inscricaoRepository,
+                               ListaEsperaRepository listaEsperaRepository,
+                               EventoJdbcRepository eventoJdbcRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Qualifier("applicationTaskExecutor") Executor executor,
+                               @Value("${eventos.waitlist.batch-size:100}") int batchSize) {
+        this.eventoRepository = eventoRepository;
+        this.inscricaoRepository = inscricaoRepository;
+        this.listaEsperaRepository = listaEsperaRepository;
+        this.eventoJdbcRepository = eventoJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromocao(PromocaoListaEspera promocao) {
+        schedule(promocao.eventId());
+    }
+
+    void schedule(String eventId) {
+        if (pendentes.add(eventId)) {
+            executor.execute(() -> {
+                pendentes.remove(eventId);
+                try {
+                    promote(eventId);
+                } catch (RuntimeException e) {
+                    log.error("Waitlist promotion failed for event {}", eventId, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Promove lotes até acabarem as vagas ou a fila.
+     *
+     * @return quantidade de usuários inscritos
+     */
+    public int promote(String eventId) {
+        int promovidos = 0;
+        while (hasSeatsAndWaiters(eventId)) {
+            Lote lote = transactionTemplate.execute(status -> promoteBatch(eventId));
+            if (lote == null || lote.processados() == 0) {
+                break;
+            }
+            promovidos += lote.inscritos();
+        }
+        return promovidos;
+    }
+
+    /**
+     * Verificação sem lock, para que pedidos em eventos ainda lotados não bloqueiem a linha do evento.
+     */
+    private boolean hasSeatsAndWaiters(String eventId) {
+        return eventoRepository.findById(eventId)
+                .filter(evento -> !evento.isFull())
+                .isPresent() && listaEsperaRepository.existsByEventoId(eventId);
+    }
+
+    /**
+     * Inscreve o início da fila até o limite de vagas, com o evento bloqueado. Quem já está inscrito
+     * (por inscrição em lote, pela inscrição de alta demanda ou por uma inscrição simultânea que
+     * venceu a entrada na fila) só sai da fila, sem ocupar outra vaga.
+     */
+    private Lote promoteBatch(String eventId) {
+        Evento evento = eventoRepository.findForUpdate(eventId).orElse(null);
+        if (evento == null) {
+            return Lote.VAZIO;
+        }
+        int vagas = evento.getMaxParticipantes() - evento.getTotalParticipantes();
+        if (vagas <= 0) {
+            return Lote.VAZIO;
+        }
+
+        List<ListaEspera> proximos = listaEsperaRepository.findNext(eventId, PageRequest.of(0, Math.min(vagas, batchSize)));
+        if (proximos.isEmpty()) {
+            return Lote.VAZIO;
+        }
+        List<String> userIds = proximos.stream().map(entrada -> entrada.getUsuario().getId()).toList();
+        Set<String> inscritos = new HashSet<>(inscricaoRepository.findRegisteredUserIds(eventId, userIds));
+        List<String> aceitos = userIds.stream().filter(userId -> !inscritos.contains(userId)).toList();
+
+        if (!aceitos.isEmpty()) {
+            if (eventoJdbcRepository.reserveSeats(eventId, aceitos.size()) == 0) {
+                return Lote.VAZIO;
+            }
+            eventoJdbcRepository.insertParticipants(eventId, aceitos);
+        }
+        listaEsperaRepository.deleteByIds(proximos.stream().map(ListaEspera::getId).toList());
+        return new Lote(proximos.size(), aceitos.size());
+    }
+
+    private record Lote(int processados, int inscritos) {
+        static final Lote VAZIO = new Lote(0, 0);
+    }
+}
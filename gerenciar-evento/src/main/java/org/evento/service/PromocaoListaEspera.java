@@ -0,0 +1,8 @@
+package org.evento.service;
+
+/**
+ * Publicado quando um evento pode ter vagas para a lista de espera (cancelamento, aumento de
+ * capacidade ou nova entrada na fila). Tratado pelo ListaEsperaPromoter depois do commit.
+ */
+public record PromocaoListaEspera(String eventId) {
+}
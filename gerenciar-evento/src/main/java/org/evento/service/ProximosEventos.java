@@ -0,0 +1,217 @@
+package org.evento.service;
+
+import jakarta.annotation.PreDestroy;
+import org.evento.model.response.EventoProximoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.repository.EventoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Modelo de leitura dos próximos eventos (GET /events/upcoming): um resumo por evento de hoje em
+ * diante, com as vagas restantes, agrupado por dia em ordem de data e id. A leitura só percorre os
+ * primeiros dias até completar a página, então não depende de quantos eventos existem.
+ * <p>
+ * Toda escrita marca o evento como pendente: criação, alteração, importação e remoção pelos
+ * EventoAlterado/EventoRemovido, e inscrições, cancelamentos e promoções da lista de espera pelo
+ * EventoCacheEvictor. Um único refresher em segundo plano relê os pendentes em lote e é o único que
+ * altera o modelo; marcações que chegam enquanto uma releitura espera na fila são agrupadas nela.
+ * Como toda escrita volta a marcar o evento depois do commit, uma releitura feita no meio da
+ * transação nunca deixa o modelo para trás. A listagem nunca consulta o banco nem espera a
+ * releitura: mostra o último estado relido, sem os dias que já passaram. Um evento que muda de dia
+ * entra no dia novo antes de sair do antigo, e a listagem só mostra a entrada que é a atual do evento,
+ * então ele nunca aparece duas vezes nem some no meio da troca.
+ */
+@Component
+public class ProximosEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(ProximosEventos.class);
+
+    static final int LOTE_RELEITURA = 1000;
+
+    private final EventoRepository eventoRepository;
+    private final Clock clock;
+    private final Executor refresher;
+    private final Duration esperaRetentativa;
+
+    private final ConcurrentSkipListMap<LocalDate, ConcurrentSkipListMap<String, EventoProximoResponse>> dias =
+            new ConcurrentSkipListMap<>();
+    private final Map<String, EventoProximoResponse> eventos = new ConcurrentHashMap<>();
+    private final Set<String> pendentes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean agendado = new AtomicBoolean();
+    private volatile LocalDate inicio;
+
+    @Autowired
+    public ProximosEventos(EventoRepository eventoRepository, EventoCacheEvictor eventoCacheEvictor,
+                           @Value("${eventos.upcoming.retry-delay:5s}") Duration esperaRetentativa) {
+        this(eventoRepository, eventoCacheEvictor, Clock.systemDefaultZone(), Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "proximos-eventos-refresher");
+            thread.setDaemon(true);
+            return thread;
+        }), esperaRetentativa);
+    }
+
+    ProximosEventos(EventoRepository eventoRepository, EventoCacheEvictor eventoCacheEvictor, Clock clock,
+                    Executor refresher, Duration esperaRetentativa) {
+        this.eventoRepository = eventoRepository;
+        this.clock = clock;
+        this.refresher = refresher;
+        this.esperaRetentativa = esperaRetentativa;
+        this.inicio = LocalDate.now(clock);
+        eventoRepository.findResumosFrom(inicio).forEach(this::put);
+        eventoCacheEvictor.onEvict(this::markPending);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlterado(EventoAlterado alterado) {
+        markPending(alterado.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRemovido(EventoRemovido removido) {
+        markPending(removido.eventId());
+    }
+
+    /**
+     * Os próximos eventos a partir de hoje, por data e id. Só lê o modelo; na virada do dia pede ao
+     * refresher que descarte os dias passados.
+     */
+    public List<EventoProximoResponse> next(int limite) {
+        LocalDate hoje = LocalDate.now(clock);
+        if (hoje.isAfter(inicio)) {
+            schedule();
+        }
+        List<EventoProximoResponse> proximos = new ArrayList<>(limite);
+        for (Map<String, EventoProximoResponse> dia : dias.tailMap(hoje).values()) {
+            for (EventoProximoResponse evento : dia.values()) {
+                if (proximos.size() == limite) {
+                    return proximos;
+                }
+                if (eventos.get(evento.getId()) == evento) {
+                    proximos.add(evento);
+                }
+            }
+        }
+        return proximos;
+    }
+
+    public int size() {
+        return eventos.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    private void markPending(String eventId) {
+        pendentes.add(eventId);
+        schedule();
+    }
+
+    private void schedule() {
+        if (agendado.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                agendado.set(false);
+                try {
+                    refresh();
+                } catch (RuntimeException e) {
+                    log.error("Upcoming events refresh failed, retrying in {}", esperaRetentativa, e);
+                    CompletableFuture.delayedExecutor(esperaRetentativa.toMillis(), TimeUnit.MILLISECONDS)
+                            .execute(this::schedule);
+                }
+            });
+        }
+    }
+
+    /**
+     * Roda só no refresher. Se a consulta falhar, os eventos do lote voltam a ficar pendentes e uma
+     * nova releitura é agendada depois de {@code eventos.upcoming.retry-delay}, mesmo sem outra escrita.
+     */
+    private void refresh() {
+        LocalDate hoje = LocalDate.now(clock);
+        if (hoje.isAfter(inicio)) {
+            Map<LocalDate, ConcurrentSkipListMap<String, EventoProximoResponse>> passados = dias.headMap(hoje);
+            passados.values().forEach(dia -> dia.keySet().forEach(eventos::remove));
+            passados.clear();
+            inicio = hoje;
+        }
+
+        List<String> ids = new ArrayList<>(pendentes);
+        pendentes.removeAll(ids);
+        for (int i = 0; i < ids.size(); i += LOTE_RELEITURA) {
+            List<String> lote = ids.subList(i, Math.min(ids.size(), i + LOTE_RELEITURA));
+            Map<String, EventoResumoResponse> atuais;
+            try {
+                atuais = eventoRepository.findResumosByIds(lote).stream()
+                        .collect(Collectors.toMap(EventoResumoResponse::getId, Function.identity()));
+            } catch (RuntimeException e) {
+                pendentes.addAll(ids.subList(i, ids.size()));
+                throw e;
+            }
+            for (String id : lote) {
+                EventoResumoResponse atual = atuais.get(id);
+                if (atual == null || atual.getData() == null || atual.getData().isBefore(inicio)) {
+                    remove(id);
+                } else {
+                    put(atual);
+                }
+            }
+        }
+    }
+
+    private void put(EventoResumoResponse resumo) {
+        EventoProximoResponse evento = EventoProximoResponse.builder()
+                .id(resumo.getId())
+                .nome(resumo.getNome())
+                .localizacao(resumo.getLocalizacao())
+                .data(resumo.getData())
+                .vagas(Math.max(0, resumo.getMaxParticipantes() - resumo.getParticipantCount()))
+                .versao(resumo.getVersao())
+                .build();
+        dias.computeIfAbsent(evento.getData(), data -> new ConcurrentSkipListMap<>()).put(evento.getId(), evento);
+        EventoProximoResponse anterior = eventos.put(evento.getId(), evento);
+        if (anterior != null && !anterior.getData().equals(evento.getData())) {
+            removeFromDay(anterior);
+        }
+    }
+
+    private void remove(String id) {
+        EventoProximoResponse anterior = eventos.remove(id);
+        if (anterior != null) {
+            removeFromDay(anterior);
+        }
+    }
+
+    private void removeFromDay(EventoProximoResponse evento) {
+        dias.computeIfPresent(evento.getData(), (data, dia) -> {
+            dia.remove(evento.getId());
+            return dia.isEmpty() ? null : dia;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Repete operações sobre Evento que perderam a verificação de versão (@Version) para uma escrita
+ * concorrente. Cada tentativa precisa rodar em uma transação nova, então a chamada deve ficar fora
+ * do @Transactional do EventoService. Entre as tentativas espera um backoff exponencial com jitter,
+ * para que escritores em conflito não voltem juntos; esgotadas as tentativas o conflito é propagado
+ * e vira 409.
+ * <p>
+ * Métricas por operação: "eventos.optimistic.conflicts" (toda falha de versão),
+ * "eventos.optimistic.retries" (novas tentativas) e "eventos.optimistic.exhausted" (desistências).
+ */
+@Component
+public class RetentativaOtimista {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTentativas;
+    private final long backoffInicialNanos;
+    private final long backoffMaximoNanos;
+
+    public RetentativaOtimista(MeterRegistry meterRegistry,
+                               @Value("${eventos.optimistic-retry.max-attempts:4}") int maxTentativas,
+                               @Value("${eventos.optimistic-retry.initial-backoff:20ms}") Duration backoffInicial,
+                               @Value("${eventos.optimistic-retry.max-backoff:500ms}") Duration backoffMaximo) {
+        this.meterRegistry = meterRegistry;
+        this.maxTentativas = Math.max(1, maxTentativas);
+        this.backoffInicialNanos = backoffInicial.toNanos();
+        this.backoffMaximoNanos = backoffMaximo.toNanos();
+    }
+
+    public <T> T execute(String operacao, Supplier<T> acao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return acao.get();
+            } catch (OptimisticLockingFailureException e) {
+                counter("eventos.optimistic.conflicts", operacao).increment();
+                if (tentativa >= maxTentativas) {
+                    counter("eventos.optimistic.exhausted", operacao).increment();
+                    throw e;
+                }
+                counter("eventos.optimistic.retries", operacao).increment();
+                backoff(tentativa, e);
+            }
+        }
+    }
+
+    public void execute(String operacao, Runnable acao) {
+        execute(operacao, () -> {
+            acao.run();
+            return null;
+        });
+    }
+
+    /**
+     * Metade fixa e metade aleatória do backoff da tentativa, que dobra a cada conflito até o máximo.
+     */
+    private void backoff(int tentativa, OptimisticLockingFailureException conflito) {
+        long base = Math.min(backoffMaximoNanos, backoffInicialNanos << Math.min(tentativa - 1, 20));
+        long espera = base / 2 + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+        try {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflito;
+        }
+    }
+
+    private Counter counter(String nome, String operacao) {
+        return meterRegistry.counter(nome, "operation", operacao);
+    }
+}
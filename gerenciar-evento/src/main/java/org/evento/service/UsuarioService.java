@@ -40,6 +40,13 @@ public class UsuarioService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Versão atual do usuário, para responder 304 a um If-None-Match sem carregar o usuário.
+     */
+    public Optional<Long> findVersion(String id) {
+        return usuarioRepository.findVersao(id);
+    }
+
     public List<UsuarioResponse> findAll() {
         return usuarioRepository.findAll().stream()
                 .map(this::convertToDTO)
@@ -0,0 +1,7 @@
+-- Contador de inscritos por evento, base da reserva de vagas com atualização condicional. Bancos
+-- marcados no baseline não têm a coluna (ou a têm criada pelo antigo ddl-auto, daí o IF NOT EXISTS);
+-- o valor é recalculado pela tabela de junção, que a V2 ainda vai migrar.
+ALTER TABLE eventos ADD COLUMN IF NOT EXISTS total_participantes INTEGER DEFAULT 0 NOT NULL;
+
+UPDATE eventos e
+SET total_participantes = (SELECT COUNT(*) FROM eventos_participantes p WHERE p.evento_id = e.id);
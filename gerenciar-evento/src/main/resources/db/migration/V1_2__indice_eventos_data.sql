@@ -0,0 +1,2 @@
+-- Índice da paginação por cursor (data, id) da listagem de eventos.
+CREATE INDEX IF NOT EXISTS idx_eventos_data_id ON eventos (data, id);
@@ -0,0 +1,27 @@
+-- Schema existente antes das migrações (até então criado pelo schema.sql e pelo ddl-auto do Hibernate).
+-- Bancos já existentes são marcados nesta versão pelo baseline-on-migrate e seguem a partir da V1.1.
+CREATE TABLE users (
+    id TEXT PRIMARY KEY UNIQUE NOT NULL,
+    username TEXT NOT NULL UNIQUE,
+    password TEXT NOT NULL,
+    role TEXT NOT NULL
+);
+
+CREATE TABLE eventos (
+    id VARCHAR(255) PRIMARY KEY,
+    data DATE,
+    nome VARCHAR(255),
+    localizacao VARCHAR(255),
+    max_participantes INTEGER NOT NULL
+);
+
+CREATE TABLE eventos_participantes (
+    evento_id VARCHAR(255) NOT NULL REFERENCES eventos (id),
+    usuario_id VARCHAR(255) NOT NULL REFERENCES users (id),
+    UNIQUE (evento_id, usuario_id)
+);
+
+-- Password: password
+-- Inserção de um usuário admin
+INSERT INTO users (id, username, password, role) VALUES
+('123e4567-e89b-12d3-a456-556642440000', 'username', '$2a$10$6LFYgUrSNREwdVdTPhLZT.8.GBAR2TATB8foCjf0vSrpBa1IXdABS', 'ADMIN');
@@ -0,0 +1,24 @@
+-- Troca a tabela de junção do @ManyToMany (eventos_participantes) pela entidade Inscricao.
+CREATE TABLE inscricoes (
+    id VARCHAR(255) PRIMARY KEY,
+    evento_id VARCHAR(255) NOT NULL,
+    usuario_id VARCHAR(255) NOT NULL,
+    inscrito_em TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_inscricoes_evento_usuario UNIQUE (evento_id, usuario_id),
+    CONSTRAINT fk_inscricoes_evento FOREIGN KEY (evento_id) REFERENCES eventos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_inscricoes_usuario FOREIGN KEY (usuario_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_inscricoes_evento ON inscricoes (evento_id);
+CREATE INDEX idx_inscricoes_usuario ON inscricoes (usuario_id);
+
+-- A tabela antiga não guardava a data de inscrição; as inscrições migradas ficam com a data da migração.
+INSERT INTO inscricoes (id, evento_id, usuario_id, inscrito_em)
+SELECT RANDOM_UUID(), evento_id, usuario_id, CURRENT_TIMESTAMP
+FROM eventos_participantes;
+
+-- Recalcula o contador a partir das inscrições migradas.
+UPDATE eventos e
+SET total_participantes = (SELECT COUNT(*) FROM inscricoes i WHERE i.evento_id = e.id);
+
+DROP TABLE eventos_participantes;
@@ -0,0 +1,12 @@
+-- Lista de espera FIFO por evento: a ordem do id é a ordem de chegada.
+CREATE TABLE lista_espera (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    evento_id VARCHAR(255) NOT NULL,
+    usuario_id VARCHAR(255) NOT NULL,
+    entrou_em TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_lista_espera_evento_usuario UNIQUE (evento_id, usuario_id),
+    CONSTRAINT fk_lista_espera_evento FOREIGN KEY (evento_id) REFERENCES eventos (id) ON DELETE CASCADE,
+    CONSTRAINT fk_lista_espera_usuario FOREIGN KEY (usuario_id) REFERENCES users (id)
+);
+
+CREATE INDEX idx_lista_espera_evento_id ON lista_espera (evento_id, id);
@@ -0,0 +1,3 @@
+-- Versão de eventos e usuários (@Version), base das ETags. Começa em 0 para as linhas existentes.
+ALTER TABLE eventos ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE users ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,4 @@
+-- Índices da busca de eventos (GET /events/search). Por data o idx_eventos_data_id já atende; a
+-- localização é comparada por igualdade e ordenada por (data, id) no mesmo índice, e o nome por prefixo.
+CREATE INDEX idx_eventos_localizacao_data_id ON eventos (localizacao, data, id);
+CREATE INDEX idx_eventos_nome ON eventos (nome);
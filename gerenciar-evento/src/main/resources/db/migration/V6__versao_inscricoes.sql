@@ -0,0 +1,4 @@
+-- Versão das inscrições do evento, separada do @Version: inscrições, cancelamentos e promoções
+-- incrementam só esta coluna, e a edição do evento não perde o lock otimista para elas. A ETag
+-- do evento é a soma das duas.
+ALTER TABLE eventos ADD COLUMN versao_inscricoes BIGINT DEFAULT 0 NOT NULL;
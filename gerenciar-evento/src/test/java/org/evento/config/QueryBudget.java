@@ -0,0 +1,79 @@
+package org.evento.config;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Orçamento de consultas por endpoint para testes com MockMvc, a partir dos SqlStats que o
+ * ServerTimingFilter deixa na requisição:
+ * <pre>
+ * mockMvc.perform(get("/events/" + id))
+ *         .andExpect(QueryBudget.statementsAtMost(1))
+ *         .andExpect(QueryBudget.entitiesLoadedAtMost(0));
+ * </pre>
+ * Um N+1 que passe do orçamento falha o build com os contadores da requisição.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher statementsAtMost(int max) {
+        return atMost("SQL statements", max, SqlStats::getStatements);
+    }
+
+    public static ResultMatcher entitiesLoadedAtMost(int max) {
+        return atMost("entities loaded", max, SqlStats::getEntitiesLoaded);
+    }
+
+    /**
+     * Entidades carregadas além das que compõem a resposta (por exemplo, inscrição e usuário de cada
+     * participante): o excedente não pode crescer com o tamanho da resposta.
+     */
+    public static ResultMatcher entitiesLoadedBeyondPayloadAtMost(long payload, int max) {
+        return atMost("entities loaded beyond the " + payload + " in the response", max,
+                stats -> stats.getEntitiesLoaded() - payload);
+    }
+
+    public static ResultMatcher rowsFetchedAtMost(long max) {
+        return atMost("rows fetched", max, SqlStats::getRowsFetched);
+    }
+
+    public static SqlStats sqlStats(MvcResult result) {
+        SqlStats stats = (SqlStats) result.getRequest().getAttribute(SqlStats.ATTRIBUTE);
+        assertNotNull(stats, "request did not go through ServerTimingFilter");
+        return stats;
+    }
+
+    /**
+     * Comandos SQL que {@code operacao} executa na thread atual, para testes que chamam o serviço
+     * direto. O trabalho em segundo plano (refresher dos próximos eventos, promotor da lista de
+     * espera) roda em outras threads e não entra na conta.
+     */
+    public static int statementsOf(Runnable operacao) {
+        SqlStats stats = SqlStats.start();
+        try {
+            operacao.run();
+        } finally {
+            SqlStats.stop();
+        }
+        return stats.getStatements();
+    }
+
+    private static ResultMatcher atMost(String contador, long max, ToLongFunction<SqlStats> valor) {
+        return result -> {
+            SqlStats stats = sqlStats(result);
+            if (valor.applyAsLong(stats) > max) {
+                MockHttpServletRequest request = result.getRequest();
+                fail(String.format("%s %s: expected at most %d %s but was %d (%s)", request.getMethod(),
+                        request.getRequestURI(), max, contador, valor.applyAsLong(stats), stats));
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package org.evento.controller;
+
+import org.evento.model.Authentication;
+import org.evento.model.LoginResponse;
+import org.evento.security.AuthenticationService;
+import org.evento.security.LoginExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuthenticationControllerTest {
+
+    @InjectMocks
+    private AuthenticationController authenticationController;
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private AuthenticationService authenticationService;
+
+    @Mock
+    private LoginExecutor loginExecutor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(loginExecutor.submit(any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
+    @Test
+    void testLoginAuthenticatesOnLoginExecutor() throws Exception {
+        var auth = new UsernamePasswordAuthenticationToken("user", null, List.of());
+        when(authenticationManager.authenticate(any())).thenReturn(auth);
+        when(authenticationService.authenticate(auth)).thenReturn("token");
+
+        ResponseEntity<LoginResponse> response = authenticationController.login(new Authentication("user", "password")).get();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals("token", response.getBody().token());
+        verify(loginExecutor, times(1)).submit(any());
+    }
+}
@@ -1,21 +1,52 @@
 package org.evento.controller;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.Evento;
+import org.evento.model.StatusInscricao;
+import org.evento.model.request.EventoBuscaRequest;
 import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoPageResponse;
+import org.evento.model.response.EventoProximoResponse;
 import org.evento.model.response.EventoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.model.response.ImportacaoResponse;
+import org.evento.model.response.InscricaoLoteResponse;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.model.response.ResultadoInscricao;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.service.EventoExportService;
+import org.evento.service.EventoImportService;
+import org.evento.service.EventoRespostaCache;
 import org.evento.service.EventoService;
+import org.evento.service.InscricaoAltaDemanda;
+import org.evento.service.RetentativaOtimista;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -32,6 +63,23 @@ class EventoControllerTest {
     @Mock
     private EventoService eventoService;
 
+    @Mock
+    private EventoImportService eventoImportService;
+
+    @Mock
+    private EventoExportService eventoExportService;
+
+    @Mock
+    private InscricaoAltaDemanda inscricaoAltaDemanda;
+
+    @Spy
+    private EventoRespostaCache eventoRespostaCache = new EventoRespostaCache(Jackson2ObjectMapperBuilder.json().build(),
+            new SimpleMeterRegistry(), mock(EventoCacheEvictor.class), DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+
+    @Spy
+    private RetentativaOtimista retentativaOtimista = new RetentativaOtimista(new SimpleMeterRegistry(), 3,
+            Duration.ZERO, Duration.ZERO);
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -80,46 +128,160 @@ class EventoControllerTest {
         EventoResponse event2 = EventoResponse.builder().id("2").nome("Workshop").build();
         List<EventoResponse> eventList = Arrays.asList(event1, event2);
 
+        when(eventoService.findAllVersion()).thenReturn("abc");
         when(eventoService.findAll()).thenReturn(eventList);
 
-        ResponseEntity<List<EventoResponse>> response = eventoController.getAllEvents();
+        ResponseEntity<List<EventoResponse>> response = eventoController.getAllEvents(webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
         assertNotNull(response.getBody());
         assertEquals(2, response.getBody().size());
 
         verify(eventoService, times(1)).findAll();
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testGetAllEventsNotModified() {
+        when(eventoService.findAllVersion()).thenReturn("abc");
+
+        ResponseEntity<List<EventoResponse>> response = eventoController.getAllEvents(webRequest("\"abc\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+
+        verify(eventoService, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testListEvents() {
+        EventoResumoResponse event = EventoResumoResponse.builder().id("1").nome("Conference").participantCount(3).build();
+        EventoPageResponse page = EventoPageResponse.builder().eventos(List.of(event)).nextCursor("abc").versao("v1").build();
+
+        when(eventoService.findPage("cursor", 20)).thenReturn(page);
+
+        ResponseEntity<EventoPageResponse> response = eventoController.listEvents("cursor", 20, webRequest(null));
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getEventos().size());
+        assertEquals("abc", response.getBody().getNextCursor());
+
+        verify(eventoService, times(1)).findPage("cursor", 20);
+        verify(eventoService, never()).findAll();
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testListEventsNotModified() {
+        EventoPageResponse page = EventoPageResponse.builder().eventos(List.of()).versao("v1").build();
+
+        when(eventoService.findPage(null, 20)).thenReturn(page);
+
+        ResponseEntity<EventoPageResponse> response = eventoController.listEvents(null, 20, webRequest("\"v1\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testSearchEvents() {
+        EventoBuscaRequest filtro = EventoBuscaRequest.builder().localizacao("Hall").build();
+        EventoResumoResponse event = EventoResumoResponse.builder().id("1").nome("Conference").localizacao("Hall").build();
+        EventoPageResponse page = EventoPageResponse.builder().eventos(List.of(event)).versao("v1").build();
+
+        when(eventoService.search(filtro, null, 20)).thenReturn(page);
+
+        ResponseEntity<EventoPageResponse> response = eventoController.searchEvents(filtro, null, 20, webRequest(null));
+        ResponseEntity<EventoPageResponse> naoModificada = eventoController.searchEvents(filtro, null, 20, webRequest("\"v1\""));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertEquals(List.of(event), response.getBody().getEventos());
+        assertEquals(HttpStatus.NOT_MODIFIED, naoModificada.getStatusCode());
+        assertNull(naoModificada.getBody());
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testGetUpcomingEvents() {
+        EventoProximoResponse event = EventoProximoResponse.builder().id("1").nome("Conference").vagas(7).build();
+
+        when(eventoService.findUpcoming(20)).thenReturn(List.of(event));
+
+        ResponseEntity<List<EventoProximoResponse>> response = eventoController.getUpcomingEvents(20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(event), response.getBody());
+        verify(eventoService, never()).findAll();
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     void testGetEventById() {
-        EventoResponse eventResponse = EventoResponse.builder().id("1").nome("Conference").build();
+        EventoResponse eventResponse = EventoResponse.builder().id("1").nome("Conference").versao(3).build();
 
+        when(eventoService.findVersion("1")).thenReturn(Optional.of(3L));
         when(eventoService.findById("1")).thenReturn(Optional.of(eventResponse));
 
-        ResponseEntity<EventoResponse> response = eventoController.getEventById("1");
+        ResponseEntity<byte[]> response = eventoController.getEventById("1", webRequest(null));
+        ResponseEntity<byte[]> emCache = eventoController.getEventById("1", webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        assertEquals(eventResponse.getId(), response.getBody().getId());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertTrue(new String(response.getBody(), StandardCharsets.UTF_8).contains("\"id\":\"1\""));
+        assertSame(response.getBody(), emCache.getBody());
 
         verify(eventoService, times(1)).findById("1");
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testGetEventByIdNotModified() {
+        when(eventoService.findVersion("1")).thenReturn(Optional.of(3L));
+
+        ResponseEntity<byte[]> response = eventoController.getEventById("1", webRequest("\"3\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+
+        verify(eventoService, never()).findById("1");
+    }
+
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testGetEventByIdChangedSinceETag() {
+        EventoResponse eventResponse = EventoResponse.builder().id("1").nome("Conference").versao(4).build();
+
+        when(eventoService.findVersion("1")).thenReturn(Optional.of(4L));
+        when(eventoService.findById("1")).thenReturn(Optional.of(eventResponse));
+
+        ResponseEntity<byte[]> response = eventoController.getEventById("1", webRequest("\"3\""));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     void testGetEventByIdNotFound() {
-        when(eventoService.findById("1")).thenReturn(Optional.empty());
+        when(eventoService.findVersion("1")).thenReturn(Optional.empty());
 
-        ResponseEntity<EventoResponse> response = eventoController.getEventById("1");
+        ResponseEntity<byte[]> response = eventoController.getEventById("1", webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
-        verify(eventoService, times(1)).findById("1");
+        verify(eventoService, never()).findById("1");
     }
 
     @Test
@@ -151,6 +313,22 @@ class EventoControllerTest {
         verify(eventoService, times(1)).updateEvent(eq("1"), any(EventoRequest.class));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testUpdateEventRetriesOptimisticLockConflict() {
+        EventoRequest eventRequest = EventoRequest.builder().nome("Updated Conference").maxParticipantes(150).build();
+        EventoResponse eventResponse = EventoResponse.builder().id("1").nome("Updated Conference").build();
+
+        when(eventoService.updateEvent(eq("1"), any(EventoRequest.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Evento.class, "1"))
+                .thenReturn(Optional.of(eventResponse));
+
+        ResponseEntity<EventoResponse> response = eventoController.updateEvent("1", eventRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(eventoService, times(2)).updateEvent(eq("1"), any(EventoRequest.class));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void testUpdateEventNotFound() {
@@ -193,9 +371,10 @@ class EventoControllerTest {
         String eventId = "1";
         String userId = "1";
 
-        doNothing().when(eventoService).registerForEvent(eventId, userId);
+        when(eventoService.registerForEvent(eventId, userId))
+                .thenReturn(InscricaoResponse.builder().status(StatusInscricao.REGISTERED).build());
 
-        ResponseEntity<Void> response = eventoController.registerForEvent(eventId, userId);
+        ResponseEntity<InscricaoResponse> response = eventoController.registerForEvent(eventId, userId);
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -203,6 +382,89 @@ class EventoControllerTest {
         verify(eventoService, times(1)).registerForEvent(eventId, userId);
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void testRegisterForHotEventGoesThroughSingleWriter() {
+        when(inscricaoAltaDemanda.isHot("1")).thenReturn(true);
+        when(inscricaoAltaDemanda.register("1", "1"))
+                .thenReturn(InscricaoResponse.builder().status(StatusInscricao.REGISTERED).build());
+
+        ResponseEntity<InscricaoResponse> response = eventoController.registerForEvent("1", "1");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(inscricaoAltaDemanda, times(1)).register("1", "1");
+        verify(eventoService, never()).registerForEvent(anyString(), anyString());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testRegisterForFullEventIsAccepted() {
+        when(eventoService.registerForEvent("1", "1"))
+                .thenReturn(InscricaoResponse.builder().status(StatusInscricao.WAITLISTED).position(3L).build());
+
+        ResponseEntity<InscricaoResponse> response = eventoController.registerForEvent("1", "1");
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(3L, response.getBody().getPosition());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testRegisterBatch() {
+        InscricaoLoteRequest request = InscricaoLoteRequest.builder().userIds(List.of("1", "2")).build();
+        InscricaoLoteResponse batchResponse = InscricaoLoteResponse.builder()
+                .registered(1)
+                .resultados(List.of(new ResultadoInscricao("1", StatusInscricao.REGISTERED),
+                        new ResultadoInscricao("2", StatusInscricao.EVENT_FULL)))
+                .build();
+
+        when(eventoService.registerBatch("1", request)).thenReturn(batchResponse);
+
+        ResponseEntity<InscricaoLoteResponse> response = eventoController.registerBatch("1", request);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getRegistered());
+
+        verify(eventoService, times(1)).registerBatch("1", request);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testImportEvents() throws Exception {
+        InputStream body = new ByteArrayInputStream("{\"nome\":\"A\"}\n".getBytes());
+        ImportacaoResponse importacao = ImportacaoResponse.builder().imported(1).failed(0).errors(List.of()).build();
+
+        when(eventoImportService.importEvents(body, MediaType.parseMediaType("application/x-ndjson"))).thenReturn(importacao);
+
+        ResponseEntity<ImportacaoResponse> response = eventoController.importEvents("application/x-ndjson", body);
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getImported());
+
+        verify(eventoImportService, times(1)).importEvents(body, MediaType.parseMediaType("application/x-ndjson"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testExportEvents() throws Exception {
+        ResponseEntity<StreamingResponseBody> response = eventoController.exportEvents();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), response.getHeaders().getContentType());
+        verifyNoInteractions(eventoExportService);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        verify(eventoExportService, times(1)).exportEvents(out);
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN"})
     void testUnregisterFromEvent() {
@@ -221,4 +483,12 @@ class EventoControllerTest {
 
         verify(eventoService, times(1)).unregisterFromEvent(eventId, userId);
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,209 @@
+package org.evento.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.evento.model.Authentication;
+import org.evento.model.LoginResponse;
+import org.evento.model.request.EventoRequest;
+import org.evento.repository.EventoRepository;
+import org.evento.service.EventoService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Corrida por ingressos de ponta a ponta: sobe a aplicação em uma porta aleatória com H2, autentica
+ * os usuários por POST /auth/login e dispara ondas de POST /events/{id}/register concorrentes, uma
+ * por evento novo. Confere que toda resposta é 200 ou 202 e que nenhum evento passou de
+ * maxParticipantes. Vazão e tempo por onda são medidos no CorridaInscricoesBenchmark do módulo
+ * gerenciar-evento-benchmarks.
+ * <p>
+ * Fora do build padrão; rode com {@code mvn test -Pload-test}. O tamanho da carga vem de
+ * propriedades de sistema: {@code -Dcarga.usuarios=200 -Dcarga.capacidade=50 -Dcarga.ondas=3
+ * -Dcarga.concorrencia=32}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class InscricaoCargaTest {
+
+    private static final int USUARIOS = Integer.getInteger("carga.usuarios", 200);
+    private static final int CAPACIDADE = Integer.getInteger("carga.capacidade", 50);
+    private static final int ONDAS = Integer.getInteger("carga.ondas", 3);
+    private static final int CONCORRENCIA = Integer.getInteger("carga.concorrencia", 32);
+
+    /**
+     * Logins simultâneos; acima da fila do LoginExecutor o login é recusado com 503.
+     */
+    private static final int LOGINS_SIMULTANEOS = 8;
+    private static final String SENHA = "senha-carga";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void testRegistrationWavesNeverOverbook() throws Exception {
+        Map<String, String> tokens = login(createUsers(USUARIOS));
+
+        for (int onda = 1; onda <= ONDAS; onda++) {
+            String eventId = eventoService.saveEvento(EventoRequest.builder()
+                    .nome("Carga " + onda)
+                    .data(LocalDate.now().plusDays(30))
+                    .localizacao("Arena")
+                    .maxParticipantes(CAPACIDADE)
+                    .build()).getId();
+
+            Onda resultado = registerWave(eventId, tokens);
+
+            assertEquals(0, resultado.outros(), "unexpected statuses: " + resultado.statusInesperados());
+            assertEquals(Math.min(CAPACIDADE, USUARIOS), resultado.inscritos());
+            assertEquals(USUARIOS - resultado.inscritos(), resultado.naFila());
+            assertTrue(eventoRepository.findById(eventId).orElseThrow().getTotalParticipantes() <= CAPACIDADE);
+            assertTrue(jdbcTemplate.queryForObject("select count(*) from inscricoes where evento_id = ?",
+                    Integer.class, eventId) <= CAPACIDADE);
+        }
+    }
+
+    /**
+     * Todos os usuários tentam se inscrever no mesmo evento ao mesmo tempo, cada um com o próprio token.
+     */
+    private Onda registerWave(String eventId, Map<String, String> tokens) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCORRENCIA);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger inscritos = new AtomicInteger();
+        AtomicInteger naFila = new AtomicInteger();
+        Map<Integer, AtomicInteger> inesperados = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Map.Entry<String, String> usuario : tokens.entrySet()) {
+                HttpRequest request = HttpRequest.newBuilder(uri("/events/" + eventId + "/register?userId=" + usuario.getKey()))
+                        .header("Authorization", "Bearer " + usuario.getValue())
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    switch (status) {
+                        case 200 -> inscritos.incrementAndGet();
+                        case 202 -> naFila.incrementAndGet();
+                        default -> inesperados.computeIfAbsent(status, s -> new AtomicInteger()).incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Onda(inscritos.get(), naFila.get(), Map.copyOf(inesperados));
+    }
+
+    /**
+     * Autentica cada usuário pela API, com poucos logins simultâneos para não estourar a fila do
+     * LoginExecutor (um 503 é repetido).
+     */
+    private Map<String, String> login(List<String[]> usuarios) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(LOGINS_SIMULTANEOS);
+        Map<String, String> tokens = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String[] usuario : usuarios) {
+                byte[] corpo = objectMapper.writeValueAsBytes(new Authentication(usuario[1], SENHA));
+                HttpRequest request = HttpRequest.newBuilder(uri("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(corpo))
+                        .build();
+                futures.add(executor.submit(() -> {
+                    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    while (response.statusCode() == 503) {
+                        Thread.sleep(50);
+                        response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    }
+                    assertEquals(200, response.statusCode(), "login failed for " + usuario[1]);
+                    tokens.put(usuario[0], objectMapper.readValue(response.body(), LoginResponse.class).token());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return tokens;
+    }
+
+    /**
+     * Grava os usuários direto no banco, todos com a mesma senha (um único hash BCrypt).
+     */
+    private List<String[]> createUsers(int quantidade) {
+        String hash = passwordEncoder.encode(SENHA);
+        List<String[]> usuarios = new ArrayList<>();
+        List<Object[]> linhas = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String id = UUID.randomUUID().toString();
+            String username = "carga-" + id;
+            usuarios.add(new String[]{id, username});
+            linhas.add(new Object[]{id, username, hash, "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        return usuarios;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Onda(int inscritos, int naFila, Map<Integer, AtomicInteger> statusInesperados) {
+
+        int outros() {
+            return statusInesperados.values().stream().mapToInt(AtomicInteger::get).sum();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.evento.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.evento.model.LoginResponse;
+import org.evento.model.request.EventoRequest;
+import org.evento.service.EventoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Um login e uma leitura de evento pela API aparecem na coleta do Prometheus, feita com o token de
+ * um ADMIN: timers dos endpoints e dos repositórios com histograma, JWT, BCrypt e estatísticas do
+ * Hibernate. Sem token, ou com o de um USER, a coleta é recusada.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testPrometheusScrapeExposesApplicationMetrics() throws Exception {
+        String token = login("USER");
+        String eventId = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Métricas")
+                .data(LocalDate.now().plusDays(3))
+                .localizacao("Sala")
+                .maxParticipantes(10)
+                .build()).getId();
+
+        mockMvc.perform(get("/events/" + eventId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + login("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(scrape.contains("uri=\"/events/{id}\""));
+        assertTrue(scrape.contains("uri=\"/auth/login\""));
+        assertTrue(scrape.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(scrape.contains("repository=\"EventoRepository\""));
+        assertTrue(scrape.contains("repository=\"UsuarioRepository\""));
+        assertTrue(scrape.contains("jwt_sign_seconds_count"));
+        assertTrue(scrape.contains("jwt_verify_seconds_count"));
+        assertTrue(scrape.contains("password_hash_seconds_count{operation=\"matches\""));
+        assertTrue(scrape.contains("hibernate_query_executions_total"));
+        assertTrue(scrape.contains("hibernate_entities_loads_total"));
+        assertTrue(scrape.contains("hibernate_flushes_total"));
+    }
+
+    @Test
+    void testOnlyHealthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + login("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    private String login(String role) throws Exception {
+        String username = "metricas-" + UUID.randomUUID();
+        jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                UUID.randomUUID().toString(), username, passwordEncoder.encode("senha"), role);
+        MvcResult login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"senha\"}"))
+                .andReturn();
+        return objectMapper.readValue(mockMvc.perform(asyncDispatch(login))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), LoginResponse.class).token();
+    }
+}
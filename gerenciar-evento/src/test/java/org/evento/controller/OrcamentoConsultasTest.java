@@ -0,0 +1,168 @@
+package org.evento.controller;
+
+import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.service.EventoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.evento.config.QueryBudget.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orçamento de SQL dos endpoints mais usados. Os limites não dependem do número de eventos nem de
+ * participantes, então um N+1 introduzido em qualquer um deles quebra o teste. Onde a resposta é
+ * montada das próprias entidades (participantes de um evento), o limite constante vale para as
+ * entidades carregadas além delas.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class OrcamentoConsultasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testGetEventByIdBudget() throws Exception {
+        // Versão, evento, inscrições e usuários em lote; além de inscrição e usuário de cada
+        // participante, só o próprio evento
+        for (int participantes : new int[]{5, 50}) {
+            mockMvc.perform(get("/events/" + createEventWithParticipants(participantes)))
+                    .andExpect(status().isOk())
+                    .andExpect(statementsAtMost(4))
+                    .andExpect(entitiesLoadedBeyondPayloadAtMost(2L * participantes, 1));
+        }
+
+        String eventId = createEventWithParticipants(20);
+        String etag = mockMvc.perform(get("/events/" + eventId))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(4))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Resposta pronta em cache: só a consulta de versão
+        mockMvc.perform(get("/events/" + eventId))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1))
+                .andExpect(entitiesLoadedAtMost(0));
+
+        mockMvc.perform(get("/events/" + eventId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(statementsAtMost(1))
+                .andExpect(entitiesLoadedAtMost(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testListEventsBudget() throws Exception {
+        createEventWithParticipants(5);
+        createEventWithParticipants(5);
+
+        mockMvc.perform(get("/events"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(1))
+                .andExpect(entitiesLoadedAtMost(0));
+
+        // Versões e eventos com participantes em uma única consulta, para qualquer número de eventos
+        mockMvc.perform(get("/events").param("full", "true"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testSearchBudget() throws Exception {
+        String eventId = createEventWithParticipants(5);
+        String data = LocalDate.now().plusDays(3).toString();
+
+        mockMvc.perform(get("/events/search")
+                        .param("from", data)
+                        .param("to", data)
+                        .param("localizacao", "Sala")
+                        .param("nome", "Orçam"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.eventos[*].id", hasItem(eventId)))
+                .andExpect(statementsAtMost(1))
+                .andExpect(entitiesLoadedAtMost(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testUpcomingBudget() throws Exception {
+        // Logo depois das escritas, com releituras pendentes: a leitura continua saindo da memória
+        createEventWithParticipants(5);
+        mockMvc.perform(get("/events/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(0))
+                .andExpect(entitiesLoadedAtMost(0));
+
+        mockMvc.perform(get("/events/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testRegisterBudget() throws Exception {
+        String eventId = createEventWithParticipants(20);
+
+        mockMvc.perform(post("/events/" + eventId + "/register").param("userId", createUsers(1).get(0)))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(6))
+                .andExpect(entitiesLoadedAtMost(0));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void testServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/events"))
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "db;dur=\\d+\\.\\d{3};desc=\"statements=1 rows=\\d+ entities=0\", app;dur=\\d+\\.\\d{3}")));
+    }
+
+    private String createEventWithParticipants(int participantes) {
+        String eventId = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Orçamento")
+                .data(LocalDate.now().plusDays(3))
+                .localizacao("Sala")
+                .maxParticipantes(participantes + 10)
+                .build()).getId();
+        eventoService.registerBatch(eventId, InscricaoLoteRequest.builder().userIds(createUsers(participantes)).build());
+        return eventId;
+    }
+
+    private List<String> createUsers(int quantidade) {
+        List<Object[]> linhas = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            linhas.add(new Object[]{id, "orcamento-" + id, "senha", "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        return ids;
+    }
+}
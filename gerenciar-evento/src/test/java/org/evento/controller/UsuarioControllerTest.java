@@ -12,9 +12,11 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.net.URI;
 import java.util.Arrays;
@@ -75,29 +77,44 @@ class UsuarioControllerTest {
     void testGetUserById() {
         UsuarioResponse userResponse = UsuarioResponse.builder().id("1").username("user").role("USER").build();
 
+        when(usuarioService.findVersion("1")).thenReturn(Optional.of(0L));
         when(usuarioService.findById("1")).thenReturn(Optional.of(userResponse));
 
-        ResponseEntity<UsuarioResponse> response = usuarioController.getEventById("1");
+        ResponseEntity<UsuarioResponse> response = usuarioController.getEventById("1", webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"0\"", response.getHeaders().getETag());
         assertNotNull(response.getBody());
         assertEquals(userResponse.getId(), response.getBody().getId());
 
         verify(usuarioService, times(1)).findById("1");
     }
 
+    @Test
+    @WithMockUser(roles = {"ADMIN", "USER"})
+    void testGetUserByIdNotModified() {
+        when(usuarioService.findVersion("1")).thenReturn(Optional.of(0L));
+
+        ResponseEntity<UsuarioResponse> response = usuarioController.getEventById("1", webRequest("\"0\""));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+
+        verify(usuarioService, never()).findById("1");
+    }
+
     @Test
     @WithMockUser(roles = {"ADMIN", "USER"})
     void testGetUserByIdNotFound() {
-        when(usuarioService.findById("1")).thenReturn(Optional.empty());
+        when(usuarioService.findVersion("1")).thenReturn(Optional.empty());
 
-        ResponseEntity<UsuarioResponse> response = usuarioController.getEventById("1");
+        ResponseEntity<UsuarioResponse> response = usuarioController.getEventById("1", webRequest(null));
 
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
 
-        verify(usuarioService, times(1)).findById("1");
+        verify(usuarioService, never()).findById("1");
     }
 
     @Test
@@ -118,4 +135,12 @@ class UsuarioControllerTest {
 
         verify(usuarioService, times(1)).findAll();
     }
-}
\ No newline at end of file
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,110 @@
+package org.evento.repository;
+
+import org.evento.model.request.EventoBuscaRequest;
+import org.evento.model.response.EventoResumoResponse;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventoBuscaRepositoryTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2030, 1, 1);
+
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+    private static EventoBuscaRepository repository;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:busca;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        repository = new EventoBuscaRepository(jdbcTemplate);
+
+        String[] cidades = {"Recife", "Olinda", "Natal", "Salvador"};
+        List<Object[]> linhas = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            linhas.add(new Object[]{String.format("e%04d", i), (i % 2 == 0 ? "Java " : "Python ") + i,
+                    cidades[i % cidades.length], HOJE.plusDays(i % 365)});
+        }
+        linhas.add(new Object[]{"e-especial", "100%_Java", "Recife", null});
+        jdbcTemplate.getJdbcTemplate().batchUpdate("insert into eventos (id, nome, localizacao, data, max_participantes, " +
+                "total_participantes) values (?, ?, ?, ?, 10, 0)", linhas);
+        jdbcTemplate.getJdbcTemplate().execute("analyze");
+    }
+
+    @Test
+    void testDateRangeUsesDateIndex() {
+        assertUsesIndex("IDX_EVENTOS_DATA_ID", EventoBuscaRequest.builder().from(HOJE).to(HOJE.plusDays(7)).build());
+    }
+
+    @Test
+    void testLocationUsesLocationIndex() {
+        assertUsesIndex("IDX_EVENTOS_LOCALIZACAO_DATA_ID", EventoBuscaRequest.builder().localizacao("Recife").build());
+    }
+
+    @Test
+    void testNamePrefixUsesNameIndex() {
+        assertUsesIndex("IDX_EVENTOS_NOME", EventoBuscaRequest.builder().nome("Java 1").build());
+    }
+
+    @Test
+    void testSearchCombinesFilters() {
+        List<EventoResumoResponse> eventos = repository.search(EventoBuscaRequest.builder()
+                .from(HOJE).to(HOJE.plusDays(9)).localizacao("Natal").nome("Java").build(), null, null, 100);
+
+        assertFalse(eventos.isEmpty());
+        eventos.forEach(evento -> {
+            assertEquals("Natal", evento.getLocalizacao());
+            assertTrue(evento.getNome().startsWith("Java"));
+            assertFalse(evento.getData().isAfter(HOJE.plusDays(9)));
+        });
+        // Ordenado pelo cursor da listagem: data e id
+        for (int i = 1; i < eventos.size(); i++) {
+            EventoResumoResponse anterior = eventos.get(i - 1);
+            EventoResumoResponse atual = eventos.get(i);
+            assertTrue(anterior.getData().isBefore(atual.getData())
+                    || anterior.getData().equals(atual.getData()) && anterior.getId().compareTo(atual.getId()) < 0);
+        }
+    }
+
+    @Test
+    void testNamePrefixIsLiteral() {
+        List<EventoResumoResponse> eventos = repository.search(EventoBuscaRequest.builder().nome("100%_").build(), null, null, 10);
+
+        assertEquals(List.of("e-especial"), eventos.stream().map(EventoResumoResponse::getId).toList());
+        assertTrue(repository.search(EventoBuscaRequest.builder().nome("1_0").build(), null, null, 10).isEmpty());
+    }
+
+    @Test
+    void testSearchContinuesAfterCursor() {
+        EventoBuscaRequest filtro = EventoBuscaRequest.builder().localizacao("Recife").build();
+        List<EventoResumoResponse> todos = repository.search(filtro, null, null, 1000);
+        EventoResumoResponse ultimoDatado = todos.get(todos.size() - 2);
+
+        List<EventoResumoResponse> depois = repository.search(filtro, ultimoDatado.getData(), ultimoDatado.getId(), 10);
+
+        assertEquals(List.of("e-especial"), depois.stream().map(EventoResumoResponse::getId).toList());
+        assertTrue(repository.search(filtro, null, "e-especial", 10).isEmpty());
+    }
+
+    /**
+     * Confere pelo EXPLAIN do H2, com e sem cursor, que a consulta gerada lê pelo índice esperado.
+     */
+    private static void assertUsesIndex(String indice, EventoBuscaRequest filtro) {
+        for (EventoBuscaRepository.Consulta consulta : List.of(
+                repository.consulta(filtro, null, null, 21),
+                repository.consulta(filtro, HOJE.plusDays(3), "e0100", 21))) {
+            String plano = jdbcTemplate.queryForObject("explain " + consulta.sql(), consulta.parametros(), String.class);
+            assertTrue(plano.contains("PUBLIC." + indice + ":"), plano);
+            assertFalse(plano.contains("tableScan"), plano);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.evento.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MigracaoInscricoesTest {
+
+    @Test
+    void testV2MovesParticipantsIntoInscricoes() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:migracao;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        flyway(dataSource, "1").migrate();
+        jdbcTemplate.update("insert into users (id, username, password, role) values ('u1', 'alice', 'x', 'USER'), ('u2', 'bob', 'x', 'USER')");
+        jdbcTemplate.update("insert into eventos (id, nome, max_participantes) values ('e1', 'Conference', 10), ('e2', 'Workshop', 10)");
+        jdbcTemplate.update("insert into eventos_participantes (evento_id, usuario_id) values ('e1', 'u1'), ('e1', 'u2'), ('e2', 'u2')");
+
+        flyway(dataSource, "2").migrate();
+
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from inscricoes where inscrito_em is not null", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("select total_participantes from eventos where id = 'e1'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("select total_participantes from eventos where id = 'e2'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.tables where table_name = 'EVENTOS_PARTICIPANTES'", Integer.class));
+        assertThrows(Exception.class, () -> jdbcTemplate.update(
+                "insert into inscricoes (id, evento_id, usuario_id, inscrito_em) values ('dup', 'e1', 'u1', current_timestamp)"));
+
+        jdbcTemplate.update("delete from eventos where id = 'e1'");
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from inscricoes", Integer.class));
+    }
+
+    @Test
+    void testBaselinedDatabaseGetsCounterAndIndex() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // Schema de antes das migrações, criado pelo schema.sql e pelo ddl-auto.
+        jdbcTemplate.execute("create table users (id text primary key, username text not null unique, password text not null, role text not null)");
+        jdbcTemplate.execute("create table eventos (id varchar(255) primary key, data date, nome varchar(255), "
+                + "localizacao varchar(255), max_participantes integer not null)");
+        jdbcTemplate.execute("create table eventos_participantes (evento_id varchar(255) not null references eventos (id), "
+                + "usuario_id varchar(255) not null references users (id), unique (evento_id, usuario_id))");
+        jdbcTemplate.update("insert into users (id, username, password, role) values ('u1', 'alice', 'x', 'USER')");
+        jdbcTemplate.update("insert into eventos (id, nome, max_participantes) values ('e1', 'Conference', 10)");
+        jdbcTemplate.update("insert into eventos_participantes (evento_id, usuario_id) values ('e1', 'u1')");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertEquals(1, jdbcTemplate.queryForObject("select total_participantes from eventos where id = 'e1'", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.indexes where index_name = 'IDX_EVENTOS_DATA_ID'", Integer.class));
+    }
+
+    private static Flyway flyway(DriverManagerDataSource dataSource, String versao) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(versao)
+                .load();
+    }
+}
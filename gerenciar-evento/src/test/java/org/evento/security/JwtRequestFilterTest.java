@@ -0,0 +1,83 @@
+package org.evento.security;
+
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.evento.repository.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class JwtRequestFilterTest {
+
+    @InjectMocks
+    private JwtRequestFilter jwtRequestFilter;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
+    private final UsuarioPrincipal principal = new UsuarioPrincipal("1", "user", UsuarioRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStatefulModeResolvesPrincipalThroughCache() throws Exception {
+        when(jwtService.validateToken("token")).thenReturn("user");
+        when(principalCache.get(eq("user"), any())).thenReturn(Optional.of(principal));
+
+        jwtRequestFilter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertSame(principal, authentication.getPrincipal());
+        assertEquals("user", authentication.getName());
+        verify(jwtService, never()).validateTokenClaims(anyString());
+    }
+
+    @Test
+    void testStatelessModeUsesOnlyTokenClaims() throws Exception {
+        ReflectionTestUtils.setField(jwtRequestFilter, "stateless", true);
+        when(jwtService.validateTokenClaims("token")).thenReturn(principal);
+
+        jwtRequestFilter.doFilter(requestWithToken(), new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertSame(principal, authentication.getPrincipal());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verifyNoInteractions(usuarioRepository, principalCache);
+    }
+
+    private MockHttpServletRequest requestWithToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/events");
+        request.addHeader("Authorization", "Bearer token");
+        return request;
+    }
+}
@@ -0,0 +1,118 @@
+package org.evento.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.config.exceptions.CustomException;
+import org.evento.model.Usuario;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "segredo-de-teste";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry, SECRET, true, 100, false, Duration.ofHours(10), Duration.ofMinutes(15));
+    }
+
+    @Test
+    void testValidateTokenCachesVerifiedToken() {
+        String token = jwtService.generateToken(new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertEquals("user", jwtService.validateToken(token));
+        assertEquals("user", jwtService.validateToken(token));
+        assertEquals("user", jwtService.extractUsername(token));
+
+        assertEquals(1, jwtService.cachedTokens());
+        assertEquals(1, meterRegistry.get("jwt.sign").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verify").timer().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "jwt-tokens").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testDisabledCacheVerifiesEveryCall() {
+        JwtService semCache = new JwtService(meterRegistry, SECRET, false, 100, false, Duration.ofHours(10), Duration.ofMinutes(15));
+        String token = semCache.generateToken(new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertEquals("user", semCache.validateToken(token));
+        assertEquals("user", semCache.validateToken(token));
+
+        assertEquals(0, semCache.cachedTokens());
+        assertEquals(2, meterRegistry.get("jwt.verify").timer().count());
+    }
+
+    @Test
+    void testValidateTokenClaimsBuildsPrincipalFromToken() {
+        Usuario usuario = new Usuario("user", "hash", UsuarioRole.ADMIN);
+        usuario.setId("42");
+        String token = jwtService.generateToken(new UsernamePasswordAuthenticationToken(
+                usuario, null, usuario.getAuthorities()));
+
+        UsuarioPrincipal principal = jwtService.validateTokenClaims(token);
+
+        assertEquals("42", principal.id());
+        assertEquals("user", principal.username());
+        assertEquals(List.of("ROLE_ADMIN"), principal.authorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void testStatelessModeIssuesShortLivedTokens() {
+        JwtService stateless = new JwtService(meterRegistry, SECRET, true, 100, true, Duration.ofHours(10), Duration.ofMinutes(15));
+        String token = stateless.generateToken(new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        DecodedJWT jwt = JWT.decode(token);
+
+        assertEquals(Duration.ofMinutes(15), Duration.between(jwt.getIssuedAtAsInstant(), jwt.getExpiresAtAsInstant()));
+    }
+
+    @Test
+    void testValidateTokenRejectsTamperedToken() {
+        String token = jwtService.generateToken(new UsernamePasswordAuthenticationToken(
+                "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        String adulterado = token.substring(0, token.length() - 2) + "xx";
+
+        CustomException ex = assertThrows(CustomException.class, () -> jwtService.validateToken(adulterado));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, ex.getStatus());
+        assertNull(jwtService.extractUsername(adulterado));
+        assertEquals(0, jwtService.cachedTokens());
+    }
+
+    @Test
+    void testValidateTokenRejectsExpiredToken() {
+        String expirado = JWT.create()
+                .withIssuer("auth-api")
+                .withSubject("user")
+                .withExpiresAt(Date.from(Instant.now().minusSeconds(60)))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        CustomException ex = assertThrows(CustomException.class, () -> jwtService.validateToken(expirado));
+
+        assertEquals("Token expired", ex.getMessage());
+        assertEquals(0, jwtService.cachedTokens());
+    }
+}
@@ -0,0 +1,67 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.config.exceptions.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginExecutor loginExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loginExecutor = new LoginExecutor(meterRegistry, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void testSubmitRecordsQueueWaitAndHashTime() throws Exception {
+        assertEquals("ok", loginExecutor.submit(() -> "ok").get(5, TimeUnit.SECONDS));
+
+        assertEquals(1, meterRegistry.get("login.queue.wait").timer().count());
+        assertEquals(1, meterRegistry.get("login.hash").timer().count());
+    }
+
+    @Test
+    void testSubmitRejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<String> emExecucao = loginExecutor.submit(() -> {
+            ocupado.countDown();
+            await(liberar);
+            return "primeiro";
+        });
+        assertTrue(ocupado.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> naFila = loginExecutor.submit(() -> "segundo");
+
+        CustomException ex = assertThrows(CustomException.class, () -> loginExecutor.submit(() -> "terceiro"));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        liberar.countDown();
+        assertEquals("primeiro", emExecucao.get(5, TimeUnit.SECONDS));
+        assertEquals("segundo", naFila.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.UsuarioPrincipal;
+import org.evento.model.UsuarioRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger consultas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(meterRegistry, 100, Duration.ofMinutes(5));
+        consultas = new AtomicInteger();
+    }
+
+    @Test
+    void testGetLoadsOnceAndRecordsHitsAndMisses() {
+        Optional<UsuarioPrincipal> primeiro = principalCache.get("user", this::load);
+        Optional<UsuarioPrincipal> segundo = principalCache.get("user", this::load);
+
+        assertTrue(primeiro.isPresent());
+        assertEquals(primeiro, segundo);
+        assertEquals("ROLE_USER", segundo.get().authorities().get(0).getAuthority());
+        assertEquals(1, consultas.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principais").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "principais").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testUnknownUserIsNotCached() {
+        assertTrue(principalCache.get("ghost", username -> {
+            consultas.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        principalCache.get("ghost", this::load);
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testEvictByIdForcesReload() {
+        principalCache.get("user", this::load);
+
+        principalCache.evictById("id-user");
+        principalCache.get("user", this::load);
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testEvictDuringLoadDoesNotCacheStalePrincipal() {
+        principalCache.get("user", username -> {
+            Optional<UsuarioPrincipal> anterior = load(username);
+            principalCache.evictById("id-user");
+            return anterior;
+        });
+        principalCache.get("user", this::load);
+
+        assertEquals(2, consultas.get());
+    }
+
+    private Optional<UsuarioPrincipal> load(String username) {
+        consultas.incrementAndGet();
+        return Optional.of(new UsuarioPrincipal("id-" + username, username, UsuarioRole.USER));
+    }
+}
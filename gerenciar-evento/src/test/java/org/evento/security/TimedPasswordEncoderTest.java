@@ -0,0 +1,23 @@
+package org.evento.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimedPasswordEncoderTest {
+
+    @Test
+    void testEncodeAndMatchesAreTimedSeparately() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TimedPasswordEncoder encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+
+        String hash = encoder.encode("senha");
+
+        assertTrue(encoder.matches("senha", hash));
+        assertFalse(encoder.matches("outra", hash));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+}
@@ -1,22 +1,42 @@
 package org.evento.service;
 
-import org.evento.config.exceptions.EventFullException;
+import org.evento.config.exceptions.CustomException;
 import org.evento.config.exceptions.EventNotFoundException;
 import org.evento.model.Evento;
+import org.evento.model.Inscricao;
+import org.evento.model.ListaEspera;
+import org.evento.model.ModoInscricaoLote;
+import org.evento.model.StatusInscricao;
 import org.evento.model.Usuario;
 import org.evento.model.UsuarioRole;
+import org.evento.model.request.EventoBuscaRequest;
 import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoPageResponse;
 import org.evento.model.response.EventoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.model.response.InscricaoLoteResponse;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.model.response.ResultadoInscricao;
+import org.evento.repository.EventoBuscaRepository;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.repository.EventoJdbcRepository;
 import org.evento.repository.EventoRepository;
+import org.evento.repository.InscricaoRepository;
+import org.evento.repository.ListaEsperaRepository;
 import org.evento.repository.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +55,27 @@ class EventServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private InscricaoRepository inscricaoRepository;
+
+    @Mock
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Mock
+    private EventoJdbcRepository eventoJdbcRepository;
+
+    @Mock
+    private EventoBuscaRepository eventoBuscaRepository;
+
+    @Mock
+    private IndiceTextoEventos indiceTextoEventos;
+
+    @Mock
+    private EventoCacheEvictor eventoCacheEvictor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -63,18 +104,106 @@ class EventServiceTest {
         assertNotNull(eventResponse);
         assertEquals(event.getId(), eventResponse.getId());
         assertEquals(event.getNome(), eventResponse.getNome());
+        verify(eventPublisher).publishEvent(new EventoAlterado("1", "Conference", "Conference Hall"));
     }
 
     @Test
     void testFindAll() {
         Evento event = new Evento();
         event.setId("1");
-        when(eventoRepository.findAll()).thenReturn(Collections.singletonList(event));
+        Usuario usuario = new Usuario("alice", "senha", UsuarioRole.USER);
+        usuario.setId("u1");
+        event.setInscricoes(List.of(new Inscricao(event, usuario)));
+        when(eventoRepository.findAllWithParticipantes()).thenReturn(Collections.singletonList(event));
 
         var events = eventoService.findAll();
 
         assertFalse(events.isEmpty());
         assertEquals(1, events.size());
+        assertEquals("alice", events.get(0).getParticipantes().get(0).getUsername());
+    }
+
+    @Test
+    void testFindPageReturnsCursorWhenMoreEventsExist() {
+        EventoResumoResponse primeiro = new EventoResumoResponse("1", "Conference", "Hall", LocalDate.of(2030, 1, 1), 10, 2, 0L);
+        EventoResumoResponse segundo = new EventoResumoResponse("2", "Workshop", "Lab", LocalDate.of(2030, 1, 2), 10, 0, 0L);
+        EventoResumoResponse terceiro = new EventoResumoResponse("3", "Meetup", "Bar", LocalDate.of(2030, 1, 3), 10, 0, 0L);
+        when(eventoRepository.findFirstPage(PageRequest.of(0, 3))).thenReturn(List.of(primeiro, segundo, terceiro));
+        when(eventoRepository.findPageAfter(LocalDate.of(2030, 1, 2), "2", PageRequest.of(0, 3))).thenReturn(List.of(terceiro));
+
+        EventoPageResponse pagina = eventoService.findPage(null, 2);
+
+        assertEquals(2, pagina.getEventos().size());
+        assertEquals(2, pagina.getEventos().get(0).getParticipantCount());
+        assertNotNull(pagina.getNextCursor());
+
+        EventoPageResponse proxima = eventoService.findPage(pagina.getNextCursor(), 2);
+
+        assertEquals(1, proxima.getEventos().size());
+        assertEquals("3", proxima.getEventos().get(0).getId());
+        assertNull(proxima.getNextCursor());
+    }
+
+    @Test
+    void testFindPageLimitsPageSize() {
+        when(eventoRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of());
+
+        eventoService.findPage(null, 10_000);
+
+        verify(eventoRepository).findFirstPage(PageRequest.of(0, EventoService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testFindPageInvalidCursor() {
+        assertThrows(CustomException.class, () -> eventoService.findPage("não-é-cursor", 10));
+    }
+
+    @Test
+    void testSearchContinuesFromCursor() {
+        EventoBuscaRequest filtro = EventoBuscaRequest.builder().localizacao("Hall").nome("Conf").build();
+        EventoResumoResponse primeiro = new EventoResumoResponse("1", "Conference", "Hall", LocalDate.of(2030, 1, 1), 10, 2, 0L);
+        EventoResumoResponse segundo = new EventoResumoResponse("2", "Conf Java", "Hall", null, 10, 0, 0L);
+        when(eventoBuscaRepository.search(filtro, null, null, 2)).thenReturn(List.of(primeiro, segundo));
+        when(eventoBuscaRepository.search(filtro, LocalDate.of(2030, 1, 1), "1", 2)).thenReturn(List.of(segundo));
+
+        EventoPageResponse pagina = eventoService.search(filtro, null, 1);
+
+        assertEquals(List.of(primeiro), pagina.getEventos());
+        assertNotNull(pagina.getNextCursor());
+        assertNotNull(pagina.getVersao());
+
+        EventoPageResponse proxima = eventoService.search(filtro, pagina.getNextCursor(), 1);
+
+        assertEquals(List.of(segundo), proxima.getEventos());
+        assertNull(proxima.getNextCursor());
+    }
+
+    @Test
+    void testSearchTextKeepsIndexRanking() {
+        EventoResumoResponse primeiro = new EventoResumoResponse("1", "Java", "Hall", null, 10, 0, 0L);
+        EventoResumoResponse segundo = new EventoResumoResponse("2", "Javascript", "Lab", null, 10, 0, 0L);
+        when(indiceTextoEventos.search("java", 20)).thenReturn(List.of("2", "removido", "1"));
+        when(eventoRepository.findResumosByIds(List.of("2", "removido", "1"))).thenReturn(List.of(primeiro, segundo));
+
+        assertEquals(List.of(segundo, primeiro), eventoService.searchText("java", 20));
+    }
+
+    @Test
+    void testSearchTextWithoutMatchesSkipsDatabase() {
+        when(indiceTextoEventos.search("nada", 20)).thenReturn(List.of());
+
+        assertTrue(eventoService.searchText("nada", 20).isEmpty());
+        verify(eventoRepository, never()).findResumosByIds(any());
+    }
+
+    @Test
+    void testSearchRejectsInvertedDateRange() {
+        EventoBuscaRequest filtro = EventoBuscaRequest.builder().from(LocalDate.of(2030, 2, 1)).to(LocalDate.of(2030, 1, 1)).build();
+
+        CustomException exception = assertThrows(CustomException.class, () -> eventoService.search(filtro, null, 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verifyNoInteractions(eventoBuscaRepository);
     }
 
     @Test
@@ -111,13 +240,17 @@ class EventServiceTest {
 
         Evento event = new Evento();
         event.setId(eventId);
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.of(event));
+        event.setMaxParticipantes(100);
+        when(eventoRepository.findWithParticipantesById(eventId)).thenReturn(Optional.of(event));
         when(eventoRepository.save(any(Evento.class))).thenReturn(event);
 
         Optional<EventoResponse> eventResponse = eventoService.updateEvent(eventId, eventRequest);
 
         assertTrue(eventResponse.isPresent());
         assertEquals(eventRequest.getNome(), eventResponse.get().getNome());
+        verify(eventoCacheEvictor).evictParticipantes(eventId);
+        verify(eventPublisher).publishEvent(new PromocaoListaEspera(eventId));
+        verify(eventPublisher).publishEvent(new EventoAlterado(eventId, "Updated Conference", "Main Hall"));
     }
 
     @Test
@@ -130,7 +263,7 @@ class EventServiceTest {
                 .maxParticipantes(150)
                 .build();
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(eventoRepository.findWithParticipantesById(eventId)).thenReturn(Optional.empty());
 
         assertThrows(EventNotFoundException.class, () -> eventoService.updateEvent(eventId, eventRequest));
     }
@@ -144,6 +277,7 @@ class EventServiceTest {
         eventoService.deleteById(eventId);
 
         verify(eventoRepository, times(1)).deleteById(eventId);
+        verify(eventPublisher).publishEvent(new EventoRemovido(eventId));
     }
 
     @Test
@@ -158,50 +292,110 @@ class EventServiceTest {
     void testRegisterForEvent() {
         String eventId = "1";
         String userId = "1";
-        String username = "user";
 
-        Usuario user = new Usuario();
-        user.setPassword("password");
-        user.setUsername(username);
-        user.setId(userId);
-        user.setRole(UsuarioRole.ADMIN);
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.isRegistered(eventId, userId)).thenReturn(false);
+        when(eventoJdbcRepository.reserveSeat(eventId)).thenReturn(1);
 
-        Evento event = new Evento();
-        event.setNome("Conference");
-        event.setId(eventId);
-        event.setMaxParticipantes(10);
-        event.setParticipantes(new ArrayList<>(Collections.singletonList(user)));
+        InscricaoResponse response = eventoService.registerForEvent(eventId, userId);
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(eventoRepository.save(any(Evento.class))).thenReturn(event);
+        assertEquals(StatusInscricao.REGISTERED, response.getStatus());
+        verify(inscricaoRepository, times(1)).saveAndFlush(any(Inscricao.class));
+        verify(eventoRepository, never()).findById(anyString());
+        verify(eventoRepository, never()).save(any(Evento.class));
+        verify(eventoCacheEvictor).evictParticipantes(eventId);
+    }
 
-        eventoService.registerForEvent(eventId, userId);
+    @Test
+    void testRegisterForEventFull() {
+        String eventId = "1";
+        String userId = "1";
 
-        verify(eventoRepository, times(1)).save(event);
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.isRegistered(eventId, userId)).thenReturn(false);
+        when(eventoJdbcRepository.reserveSeat(eventId)).thenReturn(0);
+        when(listaEsperaRepository.findEntryId(eventId, userId)).thenReturn(Optional.empty());
+        when(listaEsperaRepository.saveAndFlush(any(ListaEspera.class))).thenAnswer(invocacao -> {
+            ListaEspera entrada = invocacao.getArgument(0);
+            entrada.setId(42L);
+            return entrada;
+        });
+        when(listaEsperaRepository.position(eventId, 42L)).thenReturn(7L);
+
+        InscricaoResponse response = eventoService.registerForEvent(eventId, userId);
+
+        assertEquals(StatusInscricao.WAITLISTED, response.getStatus());
+        assertEquals(7L, response.getPosition());
+        verify(inscricaoRepository, never()).saveAndFlush(any(Inscricao.class));
+        verify(eventPublisher).publishEvent(new PromocaoListaEspera(eventId));
     }
 
     @Test
-    void testRegisterForEventFull() {
+    void testRegisterForEventJoinsExistingWaitlistWithoutTakingSeat() {
         String eventId = "1";
         String userId = "1";
-        String username = "user";
 
-        Usuario user = new Usuario();
-        user.setPassword("password");
-        user.setUsername(username);
-        user.setId(userId);
-        user.setRole(UsuarioRole.ADMIN);
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(listaEsperaRepository.existsByEventoId(eventId)).thenReturn(true);
+        when(listaEsperaRepository.findEntryId(eventId, userId)).thenReturn(Optional.of(5L));
+        when(listaEsperaRepository.position(eventId, 5L)).thenReturn(2L);
 
-        Evento event = new Evento();
-        event.setId(eventId);
-        event.setMaxParticipantes(1);
-        event.setParticipantes(Collections.singletonList(user));
+        InscricaoResponse response = eventoService.registerForEvent(eventId, userId);
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.of(user));
+        assertEquals(StatusInscricao.WAITLISTED, response.getStatus());
+        assertEquals(2L, response.getPosition());
+        verify(eventoJdbcRepository, never()).reserveSeat(anyString());
+        verify(listaEsperaRepository, never()).saveAndFlush(any(ListaEspera.class));
+    }
 
-        assertThrows(EventFullException.class, () -> eventoService.registerForEvent(eventId, userId));
+    @Test
+    void testRegisterForEventConcurrentWaitlistJoinIsConflict() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(listaEsperaRepository.existsByEventoId(eventId)).thenReturn(true);
+        when(listaEsperaRepository.findEntryId(eventId, userId)).thenReturn(Optional.empty());
+        when(listaEsperaRepository.saveAndFlush(any(ListaEspera.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_lista_espera_evento_usuario"));
+
+        CustomException exception = assertThrows(CustomException.class, () -> eventoService.registerForEvent(eventId, userId));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        verify(eventPublisher, never()).publishEvent(new PromocaoListaEspera(eventId));
+    }
+
+    @Test
+    void testRegisterForEventAlreadyRegistered() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.isRegistered(eventId, userId)).thenReturn(true);
+
+        assertThrows(CustomException.class, () -> eventoService.registerForEvent(eventId, userId));
+        verify(eventoJdbcRepository, never()).reserveSeat(anyString());
+    }
+
+    @Test
+    void testRegisterForEventConcurrentDuplicateIsConflict() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.isRegistered(eventId, userId)).thenReturn(false);
+        when(eventoJdbcRepository.reserveSeat(eventId)).thenReturn(1);
+        when(inscricaoRepository.saveAndFlush(any(Inscricao.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_inscricoes_evento_usuario"));
+
+        CustomException exception = assertThrows(CustomException.class, () -> eventoService.registerForEvent(eventId, userId));
+        assertEquals(HttpStatus.CONFLICT, exception.getStatus());
+        verify(eventoCacheEvictor, never()).evictParticipantes(eventId);
     }
 
     @Test
@@ -209,33 +403,150 @@ class EventServiceTest {
         String eventId = "1";
         String userId = "1";
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.empty());
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.empty());
+        when(eventoRepository.existsById(eventId)).thenReturn(false);
+        when(usuarioRepository.existsById(userId)).thenReturn(false);
 
 
         assertThrows(EventNotFoundException.class, () -> eventoService.registerForEvent(eventId, userId));
     }
 
     @Test
-    void testUnregisterFromEvent() {
+    void testRegisterBatchBestEffortFillsRemainingSeats() {
         String eventId = "1";
-        String userId = "1";
         Evento event = new Evento();
         event.setId(eventId);
+        event.setMaxParticipantes(3);
+        event.setTotalParticipantes(1);
+        List<String> userIds = List.of("a", "b", "a", "c", "ghost", "d");
+
+        when(eventoRepository.findForUpdate(eventId)).thenReturn(Optional.of(event));
+        when(usuarioRepository.findExistingIds(anyCollection())).thenReturn(List.of("a", "b", "c", "d"));
+        when(inscricaoRepository.findRegisteredUserIds(eq(eventId), anyCollection())).thenReturn(List.of("b"));
+        when(eventoJdbcRepository.reserveSeats(eventId, 2)).thenReturn(1);
+
+        InscricaoLoteResponse response = eventoService.registerBatch(eventId,
+                InscricaoLoteRequest.builder().userIds(userIds).mode(ModoInscricaoLote.BEST_EFFORT).build());
+
+        assertEquals(2, response.getRegistered());
+        assertEquals(List.of(StatusInscricao.REGISTERED, StatusInscricao.ALREADY_REGISTERED, StatusInscricao.DUPLICATE,
+                        StatusInscricao.REGISTERED, StatusInscricao.USER_NOT_FOUND, StatusInscricao.EVENT_FULL),
+                response.getResultados().stream().map(ResultadoInscricao::getStatus).toList());
+        verify(eventoJdbcRepository).reserveSeats(eventId, 2);
+        verify(eventoJdbcRepository).insertParticipants(eventId, List.of("a", "c"));
+    }
 
-        Usuario user = new Usuario();
-        user.setId(userId);
+    @Test
+    void testRegisterBatchAllOrNothingRegistersNobodyWhenSeatsAreMissing() {
+        String eventId = "1";
+        Evento event = new Evento();
+        event.setId(eventId);
+        event.setMaxParticipantes(2);
 
-        List<Usuario> users = new ArrayList<>();
-        users.add(user);
-        event.setParticipantes(users);
+        when(eventoRepository.findForUpdate(eventId)).thenReturn(Optional.of(event));
+        when(usuarioRepository.findExistingIds(anyCollection())).thenReturn(List.of("a", "b", "c"));
+        when(inscricaoRepository.findRegisteredUserIds(eq(eventId), anyCollection())).thenReturn(List.of());
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.of(user));
+        InscricaoLoteResponse response = eventoService.registerBatch(eventId,
+                InscricaoLoteRequest.builder().userIds(List.of("a", "b", "c")).mode(ModoInscricaoLote.ALL_OR_NOTHING).build());
+
+        assertEquals(0, response.getRegistered());
+        assertEquals(List.of(StatusInscricao.SKIPPED, StatusInscricao.SKIPPED, StatusInscricao.EVENT_FULL),
+                response.getResultados().stream().map(ResultadoInscricao::getStatus).toList());
+        verify(eventoJdbcRepository, never()).reserveSeats(anyString(), anyInt());
+        verifyNoInteractions(eventoJdbcRepository);
+    }
+
+    @Test
+    void testRegisterBatchLeavesFreeSeatsToTheWaitlist() {
+        String eventId = "1";
+        Evento event = new Evento();
+        event.setId(eventId);
+        event.setMaxParticipantes(5);
+
+        when(eventoRepository.findForUpdate(eventId)).thenReturn(Optional.of(event));
+        when(usuarioRepository.findExistingIds(anyCollection())).thenReturn(List.of("a", "b"));
+        when(inscricaoRepository.findRegisteredUserIds(eq(eventId), anyCollection())).thenReturn(List.of());
+        when(listaEsperaRepository.existsByEventoId(eventId)).thenReturn(true);
+
+        InscricaoLoteResponse response = eventoService.registerBatch(eventId,
+                InscricaoLoteRequest.builder().userIds(List.of("a", "b")).build());
+
+        assertEquals(0, response.getRegistered());
+        assertEquals(List.of(StatusInscricao.EVENT_FULL, StatusInscricao.EVENT_FULL),
+                response.getResultados().stream().map(ResultadoInscricao::getStatus).toList());
+        verifyNoInteractions(eventoJdbcRepository);
+        verify(eventPublisher).publishEvent(new PromocaoListaEspera(eventId));
+    }
+
+    @Test
+    void testRegisterBatchInsertsNothingWithoutReservedSeats() {
+        String eventId = "1";
+        Evento event = new Evento();
+        event.setId(eventId);
+        event.setMaxParticipantes(5);
+
+        when(eventoRepository.findForUpdate(eventId)).thenReturn(Optional.of(event));
+        when(usuarioRepository.findExistingIds(anyCollection())).thenReturn(List.of("a"));
+        when(inscricaoRepository.findRegisteredUserIds(eq(eventId), anyCollection())).thenReturn(List.of());
+        when(eventoJdbcRepository.reserveSeats(eventId, 1)).thenReturn(0);
+
+        InscricaoLoteResponse response = eventoService.registerBatch(eventId,
+                InscricaoLoteRequest.builder().userIds(List.of("a")).build());
+
+        assertEquals(0, response.getRegistered());
+        assertEquals(StatusInscricao.EVENT_FULL, response.getResultados().get(0).getStatus());
+        verify(eventoJdbcRepository, never()).insertParticipants(anyString(), anyList());
+    }
+
+    @Test
+    void testRegisterBatchRejectsEmptyOrOversizedBatch() {
+        List<String> grande = Collections.nCopies(EventoService.MAX_BATCH_SIZE + 1, "a");
+
+        assertThrows(CustomException.class, () -> eventoService.registerBatch("1",
+                InscricaoLoteRequest.builder().userIds(List.of()).build()));
+        assertThrows(CustomException.class, () -> eventoService.registerBatch("1",
+                InscricaoLoteRequest.builder().userIds(grande).build()));
+        verifyNoInteractions(eventoRepository);
+    }
+
+    @Test
+    void testRegisterBatchEventNotFound() {
+        when(eventoRepository.findForUpdate("1")).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> eventoService.registerBatch("1",
+                InscricaoLoteRequest.builder().userIds(List.of("a")).build()));
+    }
+
+    @Test
+    void testUnregisterFromEvent() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.deleteRegistration(eventId, userId)).thenReturn(1);
+
+        eventoService.unregisterFromEvent(eventId, userId);
+
+        verify(eventoJdbcRepository, times(1)).releaseSeat(eventId);
+        verify(eventoCacheEvictor).evictParticipantes(eventId);
+        verify(eventPublisher).publishEvent(new PromocaoListaEspera(eventId));
+    }
+
+    @Test
+    void testUnregisterFromEventLeavesWaitlist() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.deleteRegistration(eventId, userId)).thenReturn(0);
+        when(listaEsperaRepository.deleteEntry(eventId, userId)).thenReturn(1);
 
         eventoService.unregisterFromEvent(eventId, userId);
 
-        verify(eventoRepository, times(1)).save(event);
+        verify(eventoJdbcRepository, never()).releaseSeat(anyString());
+        verifyNoInteractions(eventPublisher);
     }
 
 
@@ -243,13 +554,24 @@ class EventServiceTest {
     void testUnregisterFromEvent_UserNotFound() {
         String eventId = "1";
         String userId = "1";
-        Evento event = new Evento();
-        event.setId(eventId);
 
-        when(eventoRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(usuarioRepository.findById(userId)).thenReturn(Optional.empty());
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(false);
+
+        assertThrows(EventNotFoundException.class, () -> eventoService.unregisterFromEvent(eventId, userId));
+    }
+
+    @Test
+    void testUnregisterFromEvent_NotRegistered() {
+        String eventId = "1";
+        String userId = "1";
+
+        when(eventoRepository.existsById(eventId)).thenReturn(true);
+        when(usuarioRepository.existsById(userId)).thenReturn(true);
+        when(inscricaoRepository.deleteRegistration(eventId, userId)).thenReturn(0);
 
         assertThrows(EventNotFoundException.class, () -> eventoService.unregisterFromEvent(eventId, userId));
+        verify(eventoJdbcRepository, never()).releaseSeat(anyString());
     }
 
 
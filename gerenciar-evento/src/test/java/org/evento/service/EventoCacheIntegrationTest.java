@@ -0,0 +1,219 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.evento.config.exceptions.EventNotFoundException;
+import org.evento.model.Inscricao;
+import org.evento.model.UsuarioDTO;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.evento.config.QueryBudget.statementsOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventoCacheIntegrationTest {
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private EventoRespostaCache eventoRespostaCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testRegisterAndUnregisterInvalidateCachedParticipants() {
+        String eventId = createEvent(10);
+        String primeiro = createUser();
+        String segundo = createUser();
+        eventoService.registerForEvent(eventId, primeiro);
+        assertEquals(List.of(primeiro), participants(eventId));
+
+        eventoService.registerForEvent(eventId, segundo);
+        assertEquals(List.of(primeiro, segundo), participants(eventId));
+
+        eventoService.unregisterFromEvent(eventId, primeiro);
+        assertEquals(List.of(segundo), participants(eventId));
+
+        // Inscrições em lote entram por JDBC, fora do Hibernate.
+        eventoService.registerBatch(eventId, InscricaoLoteRequest.builder().userIds(List.of(primeiro)).build());
+        assertEquals(List.of(segundo, primeiro), participants(eventId));
+    }
+
+    @Test
+    void testUpdateAndDeleteAreVisibleThroughCache() {
+        String eventId = createEvent(10);
+        eventoService.registerForEvent(eventId, createUser());
+        eventoService.findById(eventId);
+        String inscricaoId = jdbcTemplate.queryForObject("select id from inscricoes where evento_id = ?", String.class, eventId);
+        assertTrue(entityManagerFactory.getCache().contains(Inscricao.class, inscricaoId));
+
+        eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome("Renomeado")
+                .localizacao("Sala B")
+                .maxParticipantes(10)
+                .build());
+        // A edição invalida o evento (o contador salvo junto pode estar ultrapassado); depois volta ao cache.
+        assertEquals("Renomeado", eventoService.findById(eventId).orElseThrow().getNome());
+        assertEquals(0, statementsOf(() -> assertEquals("Renomeado", eventoService.findById(eventId).orElseThrow().getNome())));
+
+        // As inscrições saem em cascata pelo banco; o cache de segundo nível não pode mantê-las.
+        eventoService.deleteById(eventId);
+        assertThrows(EventNotFoundException.class, () -> eventoService.findById(eventId));
+        assertFalse(entityManagerFactory.getCache().contains(Inscricao.class, inscricaoId));
+    }
+
+    @Test
+    void testRegistrationsKeepOtherEventsCached() {
+        String disputado = createEvent(10);
+        String outro = createEvent(10);
+        eventoService.findById(outro);
+
+        eventoService.registerForEvent(disputado, createUser());
+        eventoService.registerBatch(disputado, InscricaoLoteRequest.builder().userIds(List.of(createUser())).build());
+        assertEquals(0, statementsOf(() -> assertTrue(eventoService.findById(outro).isPresent())));
+    }
+
+    @Test
+    void testUserReadsHitCacheAndStatisticsAreExposed() {
+        String userId = createUser();
+        usuarioService.findById(userId);
+
+        statistics.clear();
+        assertEquals(0, statementsOf(() -> assertTrue(usuarioService.findById(userId).isPresent())));
+        assertEquals(1, statistics.getDomainDataRegionStatistics("usuarios").getHitCount());
+
+        assertNotNull(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "usuarios", "result", "hit")
+                .functionCounter());
+    }
+
+    @Test
+    void testSerializedResponseFollowsEveryWritePath() throws Exception {
+        String eventId = createEvent(1);
+        String primeiro = createUser();
+        String segundo = createUser();
+        eventoService.registerForEvent(eventId, primeiro);
+        eventoService.registerForEvent(eventId, segundo);
+        assertTrue(json(eventId).contains(primeiro));
+
+        // A vaga liberada vai para quem está na fila pelo promotor, que grava via JDBC em segundo plano.
+        eventoService.unregisterFromEvent(eventId, primeiro);
+        await(() -> json(eventId).contains(segundo));
+        assertFalse(json(eventId).contains(primeiro));
+
+        eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome("Renomeado")
+                .localizacao("Sala B")
+                .maxParticipantes(1)
+                .build());
+        assertTrue(json(eventId).contains("\"nome\":\"Renomeado\""));
+    }
+
+    @Test
+    void testCachedResponseMatchesFreshSerialization() throws Exception {
+        String eventId = createEvent(3);
+        eventoService.registerForEvent(eventId, createUser());
+        eventoService.registerForEvent(eventId, createUser());
+        json(eventId);
+
+        byte[] serializado = objectMapper.writerFor(EventoResponse.class)
+                .writeValueAsBytes(eventoService.findById(eventId).orElseThrow());
+        assertArrayEquals(serializado, json(eventId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testEveryWriteBumpsVersion() {
+        String eventId = createEvent(10);
+        String userId = createUser();
+        long criado = eventoService.findVersion(eventId).orElseThrow();
+
+        eventoService.registerForEvent(eventId, userId);
+        long inscrito = eventoService.findVersion(eventId).orElseThrow();
+        eventoService.unregisterFromEvent(eventId, userId);
+        long cancelado = eventoService.findVersion(eventId).orElseThrow();
+        eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome("Renomeado")
+                .localizacao("Sala B")
+                .maxParticipantes(10)
+                .build());
+        long atualizado = eventoService.findVersion(eventId).orElseThrow();
+
+        assertTrue(criado < inscrito && inscrito < cancelado && cancelado < atualizado);
+        assertEquals(atualizado, eventoService.findById(eventId).orElseThrow().getVersao());
+    }
+
+    private String json(String eventId) {
+        long versao = eventoService.findVersion(eventId).orElseThrow();
+        return new String(eventoRespostaCache.get(eventId, versao, () -> eventoService.findById(eventId))
+                .orElseThrow().json(), StandardCharsets.UTF_8);
+    }
+
+    private static void await(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < limite, "cached response was not invalidated in time");
+            Thread.sleep(20);
+        }
+    }
+
+    private List<String> participants(String eventId) {
+        return eventoService.findById(eventId).orElseThrow().getParticipantes().stream()
+                .map(UsuarioDTO::getId)
+                .toList();
+    }
+
+    private String createEvent(int maxParticipantes) {
+        return eventoService.saveEvento(EventoRequest.builder()
+                .nome("Cache")
+                .data(LocalDate.now().plusDays(3))
+                .localizacao("Sala")
+                .maxParticipantes(maxParticipantes)
+                .build()).getId();
+    }
+
+    private String createUser() {
+        String userId = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                userId, "cache-" + userId, "senha", "USER");
+        return userId;
+    }
+}
@@ -0,0 +1,74 @@
+package org.evento.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.evento.model.LinhaExportacao;
+import org.evento.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventoExportServiceTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private EventoRepository eventoRepository;
+    private EventoExportService eventoExportService;
+
+    @BeforeEach
+    void setUp() {
+        eventoRepository = mock(EventoRepository.class);
+        eventoExportService = new EventoExportService(eventoRepository, objectMapper);
+    }
+
+    @Test
+    void testExportGroupsRowsIntoOneLinePerEvent() throws Exception {
+        AtomicBoolean fechado = new AtomicBoolean();
+        LocalDate data = LocalDate.of(2030, 5, 1);
+        when(eventoRepository.streamExport()).thenReturn(Stream.of(
+                new LinhaExportacao("1", "Conference", "Hall", data, 100, "u1", "alice"),
+                new LinhaExportacao("1", "Conference", "Hall", data, 100, "u2", "bob"),
+                new LinhaExportacao("2", "Workshop", "Lab", null, 10, null, null),
+                new LinhaExportacao("3", "Meetup", "Bar", data, 5, "u1", "alice")
+        ).onClose(() -> fechado.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exportados = eventoExportService.exportEvents(out);
+
+        String[] linhas = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, exportados);
+        assertEquals(3, linhas.length);
+
+        JsonNode primeiro = objectMapper.readTree(linhas[0]);
+        assertEquals("1", primeiro.get("id").asText());
+        assertEquals(data, objectMapper.treeToValue(primeiro.get("data"), LocalDate.class));
+        assertEquals(2, primeiro.get("participantes").size());
+        assertEquals("bob", primeiro.get("participantes").get(1).get("username").asText());
+
+        JsonNode segundo = objectMapper.readTree(linhas[1]);
+        assertEquals("Workshop", segundo.get("nome").asText());
+        assertEquals(0, segundo.get("participantes").size());
+
+        assertEquals("3", objectMapper.readTree(linhas[2]).get("id").asText());
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    void testExportWithNoEventsWritesNothing() throws Exception {
+        when(eventoRepository.streamExport()).thenReturn(Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, eventoExportService.exportEvents(out));
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,122 @@
+package org.evento.service;
+
+import org.evento.config.exceptions.CustomException;
+import org.evento.model.Evento;
+import org.evento.model.response.ImportacaoResponse;
+import org.evento.repository.EventoJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventoImportServiceTest {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private EventoJdbcRepository eventoJdbcRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EventoImportService eventoImportService;
+
+    @BeforeEach
+    void setUp() {
+        eventoJdbcRepository = mock(EventoJdbcRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        eventoImportService = new EventoImportService(eventoJdbcRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher,
+                Jackson2ObjectMapperBuilder.json().build(), 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportNdjsonWritesInBatchesAndReportsRowErrors() throws Exception {
+        String ndjson = """
+                {"nome":"A","localizacao":"Hall","data":"2030-01-01","maxParticipantes":10}
+                {"nome":"B","localizacao":"Hall","data":"2030-01-02","maxParticipantes":10}
+                {"nome":"C","localizacao":"Hall","data":"não-é-data","maxParticipantes":10}
+
+                {"nome":"D","localizacao":"Hall","data":"2030-01-04","maxParticipantes":10}
+                {"localizacao":"Hall","maxParticipantes":10}
+                {"nome":"E","localizacao":"Hall","data":"2030-01-05","maxParticipantes":10}
+                """;
+
+        ImportacaoResponse response = eventoImportService.importEvents(stream(ndjson), EventoImportService.APPLICATION_NDJSON);
+
+        assertEquals(4, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(3L, 6L), response.getErrors().stream().map(e -> e.getLinha()).toList());
+
+        ArgumentCaptor<List<Evento>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(eventoJdbcRepository, times(2)).insertEventos(lotes.capture());
+        List<Evento> primeiroLote = lotes.getAllValues().get(0);
+        assertEquals("A", primeiroLote.get(0).getNome());
+        assertEquals(LocalDate.of(2030, 1, 1), primeiroLote.get(0).getData());
+        assertNotNull(primeiroLote.get(0).getId());
+        verify(eventPublisher).publishEvent(new EventoAlterado(primeiroLote.get(0).getId(), "A", "Hall"));
+        verify(eventPublisher, times(4)).publishEvent(any(EventoAlterado.class));
+    }
+
+    @Test
+    void testImportCsvWithQuotedFields() throws Exception {
+        String csv = """
+                maxParticipantes,nome,localizacao,data
+                50,"Congresso, edição 2030","Centro ""Norte""\",2030-03-01
+                abc,Workshop,Lab,2030-03-02
+                20,Meetup,Bar,
+                """;
+
+        ImportacaoResponse response = eventoImportService.importEvents(stream(csv), CSV);
+
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(3L, response.getErrors().get(0).getLinha());
+        verify(eventoJdbcRepository).insertEventos(argThat(lote ->
+                lote.get(0).getNome().equals("Congresso, edição 2030")
+                        && lote.get(0).getLocalizacao().equals("Centro \"Norte\"")
+                        && lote.get(0).getMaxParticipantes() == 50
+                        && lote.get(1).getData() == null));
+    }
+
+    @Test
+    void testImportStreamsLargeBodiesInFixedSizeBatches() throws Exception {
+        int linhas = 30_000;
+        InputStream corpo = new SequenceInputStream(Collections.enumeration(IntStream.range(0, linhas)
+                .mapToObj(i -> stream("{\"nome\":\"E" + i + "\",\"maxParticipantes\":5}\n"))
+                .toList()));
+
+        ImportacaoResponse response = eventoImportService.importEvents(corpo, EventoImportService.APPLICATION_NDJSON);
+
+        assertEquals(linhas, response.getImported());
+        verify(eventoJdbcRepository, times(linhas / 3)).insertEventos(argThat(lote -> lote.size() <= 3));
+    }
+
+    @Test
+    void testImportRejectsCsvWithoutRequiredColumns() {
+        assertThrows(CustomException.class, () -> eventoImportService.importEvents(stream("nome,data\nA,2030-01-01\n"), CSV));
+    }
+
+    @Test
+    void testSplitCsv() {
+        assertEquals(List.of("a", "b,c", "", "d\"e"), EventoImportService.splitCsv("a,\"b,c\",,\"d\"\"e\""));
+        assertThrows(IllegalArgumentException.class, () -> EventoImportService.splitCsv("\"aberto"));
+    }
+
+    private static InputStream stream(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.evento.model.Evento;
+import org.evento.model.request.EventoRequest;
+import org.evento.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Uma edição que entra entre a leitura e a gravação de outra não pode ser sobrescrita: a segunda perde
+ * a verificação de versão e é repetida sobre o estado novo. Inscrições não mexem no @Version, então
+ * não fazem a edição do evento falhar, e o contador delas também não é sobrescrito.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventoOptimisticLockIntegrationTest {
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private RetentativaOtimista retentativaOtimista;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transacao;
+    private TransactionTemplate transacaoConcorrente;
+
+    @BeforeEach
+    void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+        transacaoConcorrente = new TransactionTemplate(transactionManager);
+        transacaoConcorrente.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    void testStaleUpdateDoesNotOverwriteConcurrentUpdate() {
+        String eventId = createEvent();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transacao.executeWithoutResult(status -> {
+            Evento evento = eventoRepository.findWithParticipantesById(eventId).orElseThrow();
+            renameConcurrently(eventId, "Concorrente");
+            evento.setNome("Renomeado");
+        }));
+
+        assertEquals("Concorrente", eventoRepository.findById(eventId).orElseThrow().getNome());
+    }
+
+    @Test
+    void testConcurrentRegistrationDoesNotConflictWithUpdate() {
+        String eventId = createEvent();
+        long versaoAntes = eventoService.findVersion(eventId).orElseThrow();
+
+        transacao.executeWithoutResult(status -> {
+            Evento evento = eventoRepository.findWithParticipantesById(eventId).orElseThrow();
+            transacaoConcorrente.executeWithoutResult(s -> eventoService.registerForEvent(eventId, createUser()));
+            evento.setNome("Renomeado");
+        });
+
+        // Direto do banco: fora do EventoService ninguém invalida o evento salvo no cache de segundo nível.
+        assertEquals("Renomeado", jdbcTemplate.queryForObject("select nome from eventos where id = ?", String.class, eventId));
+        assertEquals(1, jdbcTemplate.queryForObject("select total_participantes from eventos where id = ?", Integer.class, eventId));
+        assertEquals(1, jdbcTemplate.queryForObject("select versao from eventos where id = ?", Long.class, eventId));
+        assertEquals(versaoAntes + 2, eventoService.findVersion(eventId).orElseThrow());
+    }
+
+    @Test
+    void testConflictingUpdateIsRetriedOnFreshState() {
+        String eventId = createEvent();
+        AtomicInteger tentativas = new AtomicInteger();
+        double retentativasAntes = retries();
+
+        retentativaOtimista.execute("updateEvent", () -> transacao.executeWithoutResult(status -> {
+            Evento evento = eventoRepository.findWithParticipantesById(eventId).orElseThrow();
+            if (tentativas.incrementAndGet() == 1) {
+                renameConcurrently(eventId, "Concorrente");
+            }
+            evento.setLocalizacao("Sala B");
+        }));
+
+        Evento evento = eventoRepository.findById(eventId).orElseThrow();
+        assertEquals(2, tentativas.get());
+        assertEquals("Concorrente", evento.getNome());
+        assertEquals("Sala B", evento.getLocalizacao());
+        assertEquals(retentativasAntes + 1, retries());
+    }
+
+    /**
+     * Edição em uma transação própria, confirmada enquanto a transação de fora ainda está aberta.
+     */
+    private void renameConcurrently(String eventId, String nome) {
+        transacaoConcorrente.executeWithoutResult(status -> eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome(nome)
+                .data(LocalDate.now().plusDays(3))
+                .localizacao("Sala")
+                .maxParticipantes(10)
+                .build()));
+    }
+
+    private double retries() {
+        var contador = meterRegistry.find("eventos.optimistic.retries").tag("operation", "updateEvent").counter();
+        return contador == null ? 0 : contador.count();
+    }
+
+    private String createUser() {
+        String userId = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                userId, "lock-" + userId, "senha", "USER");
+        return userId;
+    }
+
+    private String createEvent() {
+        return eventoService.saveEvento(EventoRequest.builder()
+                .nome("Optimistic")
+                .data(LocalDate.now().plusDays(3))
+                .localizacao("Sala")
+                .maxParticipantes(10)
+                .build()).getId();
+    }
+}
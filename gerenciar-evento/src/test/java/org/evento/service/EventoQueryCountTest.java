@@ -0,0 +1,81 @@
+package org.evento.service;
+
+import org.evento.model.request.EventoRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.evento.config.QueryBudget.statementsOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventoQueryCountTest {
+
+    private static final int PARTICIPANTES_POR_EVENTO = 3;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFindAllStatementCountDoesNotGrowWithEvents() {
+        createEventsWithParticipants(5);
+        int comPoucosEventos = statementsOf(() -> eventoService.findAll());
+
+        createEventsWithParticipants(50);
+        int comMaisEventos = statementsOf(() -> eventoService.findAll());
+
+        assertEquals(comPoucosEventos, comMaisEventos);
+        assertEquals(1, comMaisEventos);
+    }
+
+    @Test
+    void testFindByIdAndUpdateUseBoundedStatements() {
+        String eventId = createEventsWithParticipants(1).get(0);
+
+        // Primeira leitura: evento, inscrições e um lote de usuários; a segunda vem do cache de segundo nível.
+        assertEquals(3, statementsOf(() -> eventoService.findById(eventId)));
+        assertEquals(0, statementsOf(() -> eventoService.findById(eventId)));
+
+        EventoRequest alteracao = EventoRequest.builder()
+                .nome("Renamed")
+                .data(LocalDate.now().plusDays(5))
+                .localizacao("Hall B")
+                .maxParticipantes(10)
+                .build();
+        int atualizacao = statementsOf(() -> assertEquals(PARTICIPANTES_POR_EVENTO,
+                eventoService.updateEvent(eventId, alteracao).orElseThrow().getParticipantes().size()));
+
+        assertEquals(2, atualizacao);
+    }
+
+    private List<String> createEventsWithParticipants(int quantidade) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String eventId = eventoService.saveEvento(EventoRequest.builder()
+                    .nome("Evento " + i)
+                    .data(LocalDate.now().plusDays(i))
+                    .localizacao("Sala " + i)
+                    .maxParticipantes(10)
+                    .build()).getId();
+            for (int p = 0; p < PARTICIPANTES_POR_EVENTO; p++) {
+                String userId = UUID.randomUUID().toString();
+                jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                        userId, "n1-" + userId, "senha", "USER");
+                eventoService.registerForEvent(eventId, userId);
+            }
+            ids.add(eventId);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,197 @@
+package org.evento.service;
+
+import org.evento.config.exceptions.CustomException;
+import org.evento.model.ModoInscricaoLote;
+import org.evento.model.StatusInscricao;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.EventoResponse;
+import org.evento.repository.EventoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EventoRegistrationConcurrencyTest {
+
+    private static final int CAPACIDADE = 500;
+    private static final int TENTATIVAS = 2000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testParallelRegistrationsNeverOverbook() throws Exception {
+        EventoResponse evento = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Ticket Rush")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(CAPACIDADE)
+                .build());
+        List<String> userIds = createUsers(TENTATIVAS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger naFila = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    if (eventoService.registerForEvent(evento.getId(), userId).getStatus() == StatusInscricao.REGISTERED) {
+                        aceitas.incrementAndGet();
+                    } else {
+                        naFila.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(CAPACIDADE, aceitas.get());
+        assertEquals(TENTATIVAS - CAPACIDADE, naFila.get());
+        assertEquals(CAPACIDADE, eventoRepository.findById(evento.getId()).orElseThrow().getTotalParticipantes());
+        assertEquals(CAPACIDADE, jdbcTemplate.queryForObject(
+                "select count(*) from inscricoes where evento_id = ?", Integer.class, evento.getId()));
+        assertEquals(TENTATIVAS - CAPACIDADE, jdbcTemplate.queryForObject(
+                "select count(*) from lista_espera where evento_id = ?", Integer.class, evento.getId()));
+    }
+
+    @Test
+    void testParallelBatchAndSingleRegistrationsNeverOverbook() throws Exception {
+        int capacidade = 300;
+        int lotes = 20;
+        int porLote = 40;
+        EventoResponse evento = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Batch Rush")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(capacidade)
+                .build());
+        List<String> avulsos = createUsers(400);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < lotes; i++) {
+                List<String> lote = createUsers(porLote);
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    aceitas.addAndGet(eventoService.registerBatch(evento.getId(), InscricaoLoteRequest.builder()
+                            .userIds(lote)
+                            .mode(ModoInscricaoLote.BEST_EFFORT)
+                            .build()).getRegistered());
+                    return null;
+                }));
+            }
+            for (String userId : avulsos) {
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    if (eventoService.registerForEvent(evento.getId(), userId).getStatus() == StatusInscricao.REGISTERED) {
+                        aceitas.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(capacidade, aceitas.get());
+        assertEquals(capacidade, eventoRepository.findById(evento.getId()).orElseThrow().getTotalParticipantes());
+        assertEquals(capacidade, jdbcTemplate.queryForObject(
+                "select count(*) from inscricoes where evento_id = ?", Integer.class, evento.getId()));
+    }
+
+    @Test
+    void testParallelDuplicateRegistrationsAreConflicts() throws Exception {
+        int usuarios = 100;
+        EventoResponse evento = eventoService.saveEvento(EventoRequest.builder()
+                .nome("Double Click")
+                .data(LocalDate.now().plusDays(30))
+                .localizacao("Arena")
+                .maxParticipantes(usuarios)
+                .build());
+        List<String> userIds = createUsers(usuarios);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String userId : userIds) {
+                for (int i = 0; i < 2; i++) {
+                    futures.add(executor.submit(() -> {
+                        largada.await();
+                        try {
+                            eventoService.registerForEvent(evento.getId(), userId);
+                            aceitas.incrementAndGet();
+                        } catch (CustomException e) {
+                            assertEquals(HttpStatus.CONFLICT, e.getStatus());
+                            conflitos.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(usuarios, aceitas.get());
+        assertEquals(usuarios, conflitos.get());
+        assertEquals(usuarios, eventoRepository.findById(evento.getId()).orElseThrow().getTotalParticipantes());
+        assertEquals(usuarios, jdbcTemplate.queryForObject(
+                "select count(*) from inscricoes where evento_id = ?", Integer.class, evento.getId()));
+    }
+
+    private List<String> createUsers(int quantidade) {
+        List<Object[]> linhas = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            linhas.add(new Object[]{id, "rush-" + id, "senha", "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        return ids;
+    }
+}
@@ -0,0 +1,106 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.UsuarioDTO;
+import org.evento.model.response.EventoResponse;
+import org.evento.repository.EventoCacheEvictor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EventoRespostaCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventoRespostaCache eventoRespostaCache;
+    private Consumer<String> evictor;
+    private AtomicInteger consultas;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EventoCacheEvictor eventoCacheEvictor = mock(EventoCacheEvictor.class);
+        eventoRespostaCache = new EventoRespostaCache(Jackson2ObjectMapperBuilder.json().build(), meterRegistry,
+                eventoCacheEvictor, DataSize.ofMegabytes(1), Duration.ofMinutes(5));
+        ArgumentCaptor<Consumer<String>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(eventoCacheEvictor).onEvict(captor.capture());
+        evictor = captor.getValue();
+        consultas = new AtomicInteger();
+    }
+
+    @Test
+    void testGetSerializesOnceAndRecordsHitsAndMisses() {
+        byte[] primeiro = eventoRespostaCache.get("1", 0, () -> load("1", 0)).orElseThrow().json();
+        byte[] segundo = eventoRespostaCache.get("1", 0, () -> load("1", 0)).orElseThrow().json();
+
+        assertSame(primeiro, segundo);
+        assertTrue(new String(primeiro, StandardCharsets.UTF_8).contains("\"username\":\"ana\""));
+        assertEquals(1, consultas.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "eventos-json").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void testEvictFromEventoCacheEvictorForcesReload() {
+        eventoRespostaCache.get("1", 0, () -> load("1", 0));
+
+        evictor.accept("1");
+        eventoRespostaCache.get("1", 0, () -> load("1", 0));
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testOlderVersionIsReloaded() {
+        eventoRespostaCache.get("1", 0, () -> load("1", 0));
+
+        EventoRespostaCache.Resposta resposta = eventoRespostaCache.get("1", 1, () -> load("1", 1)).orElseThrow();
+
+        assertEquals(1, resposta.versao());
+        assertEquals(2, consultas.get());
+        assertSame(resposta, eventoRespostaCache.get("1", 1, () -> load("1", 1)).orElseThrow());
+    }
+
+    @Test
+    void testLoadInvalidatedMidwayIsNotCached() {
+        eventoRespostaCache.get("1", 0, () -> {
+            Optional<EventoResponse> antigo = load("1", 0);
+            eventoRespostaCache.evict("1");
+            return antigo;
+        });
+        eventoRespostaCache.get("1", 0, () -> load("1", 0));
+
+        assertEquals(2, consultas.get());
+    }
+
+    @Test
+    void testMissingEventIsNotCached() {
+        assertTrue(eventoRespostaCache.get("ghost", 0, Optional::empty).isEmpty());
+        eventoRespostaCache.get("ghost", 0, () -> load("ghost", 0));
+
+        assertEquals(1, consultas.get());
+    }
+
+    private Optional<EventoResponse> load(String id, long versao) {
+        consultas.incrementAndGet();
+        return Optional.of(EventoResponse.builder()
+                .id(id)
+                .nome("Conference")
+                .participantes(List.of(new UsuarioDTO("u1", "ana")))
+                .maxParticipantes(10)
+                .versao(versao)
+                .build());
+    }
+}
@@ -0,0 +1,92 @@
+package org.evento.service;
+
+import org.evento.model.request.EventoRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IndiceTextoEventosIntegrationTest {
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EventoImportService eventoImportService;
+
+    @Autowired
+    private IndiceTextoEventos indiceTextoEventos;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testWritesKeepIndexInSync() {
+        String marca = marca();
+        String eventId = eventoService.saveEvento(request("Oficina " + marca, "Olinda")).getId();
+
+        assertEquals(List.of(eventId), indiceTextoEventos.search(marca + " olinda", 10));
+        assertEquals(eventId, eventoService.searchText(marca, 10).get(0).getId());
+
+        eventoService.updateEvent(eventId, request("Palestra " + marca, "Natal"));
+
+        assertEquals(List.of(), indiceTextoEventos.search(marca + " olinda", 10));
+        assertEquals(List.of(eventId), indiceTextoEventos.search(marca + " palestra natal", 10));
+
+        eventoService.deleteById(eventId);
+
+        assertEquals(List.of(), indiceTextoEventos.search(marca, 10));
+    }
+
+    @Test
+    void testRolledBackUpdateIsNotIndexed() {
+        String marca = marca();
+        String eventId = eventoService.saveEvento(request("Oficina " + marca, "Olinda")).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventoService.updateEvent(eventId, request("Cancelado " + marca, "Natal"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(List.of(eventId), indiceTextoEventos.search(marca + " oficina olinda", 10));
+        assertEquals(List.of(), indiceTextoEventos.search(marca + " cancelado", 10));
+    }
+
+    @Test
+    void testImportedEventsAreIndexed() throws Exception {
+        String marca = marca();
+        String ndjson = "{\"nome\":\"Importado " + marca + "\",\"localizacao\":\"Natal\",\"data\":\"2030-01-01\",\"maxParticipantes\":10}\n";
+
+        eventoImportService.importEvents(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)),
+                EventoImportService.APPLICATION_NDJSON);
+
+        assertEquals(1, eventoService.searchText("importado " + marca, 10).size());
+    }
+
+    /**
+     * Palavra única por teste, para não casar com eventos criados por outros testes do mesmo contexto.
+     */
+    private static String marca() {
+        return "m" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static EventoRequest request(String nome, String localizacao) {
+        return EventoRequest.builder()
+                .nome(nome)
+                .localizacao(localizacao)
+                .data(LocalDate.now().plusDays(10))
+                .maxParticipantes(10)
+                .build();
+    }
+}
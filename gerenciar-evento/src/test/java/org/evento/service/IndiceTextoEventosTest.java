@@ -0,0 +1,92 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IndiceTextoEventosTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IndiceTextoEventos indice;
+
+    @BeforeEach
+    void setUp() {
+        EventoRepository eventoRepository = mock(EventoRepository.class);
+        when(eventoRepository.findAllResumos()).thenReturn(List.of(
+                resumo("1", "Festa de São João", "Caruaru"),
+                resumo("2", "Congresso de Java", "São Paulo"),
+                resumo("3", "Workshop Javascript", "Recife")));
+        meterRegistry = new SimpleMeterRegistry();
+        indice = new IndiceTextoEventos(eventoRepository, meterRegistry);
+    }
+
+    @Test
+    void testTokenizeFoldsAccentsAndCase() {
+        assertEquals(List.of("sao", "joao", "acai", "2030"), IndiceTextoEventos.tokenize("SÃO-João, açaí 2030!"));
+        assertEquals(List.of(), IndiceTextoEventos.tokenize("  -- "));
+    }
+
+    @Test
+    void testSearchIgnoresAccentsAndMatchesPrefixes() {
+        assertEquals(List.of("1"), indice.search("joão", 10));
+        assertEquals(List.of("1"), indice.search("JOAO", 10));
+        assertEquals(List.of("1"), indice.search("carua", 10));
+        assertEquals(List.of(), indice.search("", 10));
+        assertEquals(List.of(), indice.search("porto", 10));
+    }
+
+    @Test
+    void testAllWordsMustMatch() {
+        assertEquals(List.of("2"), indice.search("java paulo", 10));
+        assertEquals(List.of(), indice.search("java caruaru", 10));
+    }
+
+    @Test
+    void testRanksNameOverLocationAndWholeTermOverPrefix() {
+        // "java" é termo completo no 2 e prefixo no 3
+        assertEquals(List.of("2", "3"), indice.search("java", 10));
+        // "sao" no nome do 1 vale mais que na localização do 2
+        assertEquals(List.of("1", "2"), indice.search("sao", 10));
+        assertEquals(List.of("1"), indice.search("sao", 1));
+    }
+
+    @Test
+    void testIndexReplacesPreviousTermsAndRemoveDropsEvent() {
+        indice.index("2", "Congresso de Kotlin", "Recife");
+
+        assertEquals(List.of("3"), indice.search("java", 10));
+        assertEquals(List.of("2"), indice.search("kotlin", 10));
+        assertEquals(List.of("2", "3"), indice.search("recife", 10));
+
+        indice.remove("3");
+
+        assertEquals(List.of(), indice.search("javascript", 10));
+        assertEquals(List.of("2"), indice.search("recife", 10));
+        assertEquals(2, indice.size());
+    }
+
+    @Test
+    void testPublishesSizeAndMemory() {
+        double memoria = meterRegistry.get("eventos.search.index.memory").gauge().value();
+
+        assertEquals(3, meterRegistry.get("eventos.search.index.documents").gauge().value());
+        assertEquals(11, meterRegistry.get("eventos.search.index.terms").gauge().value());
+        assertTrue(memoria > 0);
+
+        indice.remove("1");
+
+        assertEquals(2, meterRegistry.get("eventos.search.index.documents").gauge().value());
+        assertTrue(meterRegistry.get("eventos.search.index.memory").gauge().value() < memoria);
+    }
+
+    private static EventoResumoResponse resumo(String id, String nome, String localizacao) {
+        return EventoResumoResponse.builder().id(id).nome(nome).localizacao(localizacao).build();
+    }
+}
@@ -0,0 +1,142 @@
+package org.evento.service;
+
+import org.evento.config.exceptions.CustomException;
+import org.evento.config.exceptions.EventNotFoundException;
+import org.evento.model.StatusInscricao;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InscricaoAltaDemandaIntegrationTest {
+
+    private static final String EVENTO_QUENTE = "evento-quente-teste";
+
+    @Autowired
+    private InscricaoAltaDemanda inscricaoAltaDemanda;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testSingleWriterNeverOverbooksAndSendsTheRestToTheWaitlist() throws Exception {
+        int capacidade = 300;
+        int tentativas = 1000;
+        jdbcTemplate.update("insert into eventos (id, nome, max_participantes, total_participantes) values (?, ?, ?, 0)",
+                EVENTO_QUENTE, "Lançamento", capacidade);
+        List<String> userIds = createUsers(tentativas);
+        assertTrue(inscricaoAltaDemanda.isHot(EVENTO_QUENTE));
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger naFila = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String userId : userIds) {
+                futures.add(executor.submit(() -> {
+                    largada.await();
+                    if (inscricaoAltaDemanda.register(EVENTO_QUENTE, userId).getStatus() == StatusInscricao.REGISTERED) {
+                        aceitas.incrementAndGet();
+                    } else {
+                        naFila.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(capacidade, aceitas.get());
+        assertEquals(tentativas - capacidade, naFila.get());
+        assertEquals(capacidade, jdbcTemplate.queryForObject(
+                "select total_participantes from eventos where id = ?", Integer.class, EVENTO_QUENTE));
+        assertEquals(capacidade, jdbcTemplate.queryForObject(
+                "select count(*) from inscricoes where evento_id = ?", Integer.class, EVENTO_QUENTE));
+        assertEquals(tentativas - capacidade, jdbcTemplate.queryForObject(
+                "select count(*) from lista_espera where evento_id = ?", Integer.class, EVENTO_QUENTE));
+
+        String inscrito = jdbcTemplate.queryForObject(
+                "select usuario_id from inscricoes where evento_id = ? limit 1", String.class, EVENTO_QUENTE);
+        assertThrows(CustomException.class, () -> inscricaoAltaDemanda.register(EVENTO_QUENTE, inscrito));
+    }
+
+    @Test
+    void testRepeatedRequestsFromTheSameUserRegisterOnce() throws Exception {
+        String evento = "evento-quente-duplicado";
+        int usuarios = 200;
+        jdbcTemplate.update("insert into eventos (id, nome, max_participantes, total_participantes) values (?, ?, ?, 0)",
+                evento, "Cliques repetidos", usuarios);
+        List<String> userIds = createUsers(usuarios);
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger aceitas = new AtomicInteger();
+        AtomicInteger conflitos = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (String userId : userIds) {
+                for (int i = 0; i < 2; i++) {
+                    futures.add(executor.submit(() -> {
+                        largada.await();
+                        try {
+                            inscricaoAltaDemanda.register(evento, userId);
+                            aceitas.incrementAndGet();
+                        } catch (CustomException e) {
+                            assertEquals(HttpStatus.CONFLICT, e.getStatus());
+                            conflitos.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            largada.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(usuarios, aceitas.get());
+        assertEquals(usuarios, conflitos.get());
+        assertEquals(usuarios, jdbcTemplate.queryForObject(
+                "select total_participantes from eventos where id = ?", Integer.class, evento));
+        assertEquals(usuarios, jdbcTemplate.queryForObject(
+                "select count(*) from inscricoes where evento_id = ?", Integer.class, evento));
+    }
+
+    @Test
+    void testUnknownEvent() {
+        assertThrows(EventNotFoundException.class, () -> inscricaoAltaDemanda.register("evento-quente-benchmark", "ninguem"));
+    }
+
+    private List<String> createUsers(int quantidade) {
+        List<Object[]> linhas = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            linhas.add(new Object[]{id, "quente-" + id, "senha", "USER"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role) values (?, ?, ?, ?)", linhas);
+        return ids;
+    }
+}
@@ -0,0 +1,104 @@
+package org.evento.service;
+
+import org.evento.config.exceptions.CustomException;
+import org.evento.model.StatusInscricao;
+import org.evento.model.response.InscricaoResponse;
+import org.evento.repository.EventoJdbcRepository;
+import org.evento.repository.EventoRepository;
+import org.evento.repository.InscricaoRepository;
+import org.evento.repository.ListaEsperaRepository;
+import org.evento.repository.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InscricaoAltaDemandaTest {
+
+    private static final String EVENTO = "evento-quente";
+
+    private EventoService eventoService;
+    private EventoJdbcRepository eventoJdbcRepository;
+    private TransactionTemplate transactionTemplate;
+    private InscricaoAltaDemanda inscricaoAltaDemanda;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventoService = mock(EventoService.class);
+        EventoRepository eventoRepository = mock(EventoRepository.class);
+        UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+        InscricaoRepository inscricaoRepository = mock(InscricaoRepository.class);
+        eventoJdbcRepository = mock(EventoJdbcRepository.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+
+        when(eventoRepository.findVagas(EVENTO)).thenReturn(Optional.of(10));
+        when(usuarioRepository.findExistingIds(anyCollection())).thenAnswer(inv -> List.copyOf(inv.getArgument(0)));
+        when(eventoJdbcRepository.reserveSeats(eq(EVENTO), anyInt())).thenReturn(1);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.getArgument(0, TransactionCallback.class).doInTransaction(null));
+
+        inscricaoAltaDemanda = new InscricaoAltaDemanda(Set.of(EVENTO), eventoService, eventoRepository, usuarioRepository,
+                inscricaoRepository, mock(ListaEsperaRepository.class), eventoJdbcRepository, transactionTemplate,
+                200, 100, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        inscricaoAltaDemanda.shutdown();
+    }
+
+    @Test
+    void testUniqueKeyViolationFallsBackToOneByOne() {
+        doThrow(new DuplicateKeyException("uk_inscricoes_evento_usuario"))
+                .when(eventoJdbcRepository).insertParticipants(eq(EVENTO), anyList());
+        InscricaoResponse inscrito = InscricaoResponse.builder().status(StatusInscricao.REGISTERED).build();
+        when(eventoService.registerForEvent(EVENTO, "u1")).thenReturn(inscrito);
+
+        assertSame(inscrito, inscricaoAltaDemanda.register(EVENTO, "u1"));
+        verify(eventoService).registerForEvent(EVENTO, "u1");
+    }
+
+    @Test
+    void testSlowBatchTimesOutAndShutdownRejectsQueuedRequests() throws Exception {
+        CountDownLatch gravando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        doAnswer(inv -> {
+            gravando.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        }).when(transactionTemplate).execute(any());
+
+        CustomException timeout = assertThrows(CustomException.class, () -> inscricaoAltaDemanda.register(EVENTO, "u1"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, timeout.getStatus());
+        assertTrue(gravando.await(5, TimeUnit.SECONDS));
+
+        // O escritor segue preso no primeiro lote; este pedido fica na fila até o shutdown.
+        CompletableFuture<Throwable> enfileirado = CompletableFuture.supplyAsync(() ->
+                assertThrows(CustomException.class, () -> inscricaoAltaDemanda.register(EVENTO, "u2")));
+        Thread.sleep(50);
+        inscricaoAltaDemanda.shutdown();
+
+        CustomException recusado = (CustomException) enfileirado.get(1, TimeUnit.SECONDS);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, recusado.getStatus());
+        assertThrows(CustomException.class, () -> inscricaoAltaDemanda.register(EVENTO, "u3"));
+    }
+}
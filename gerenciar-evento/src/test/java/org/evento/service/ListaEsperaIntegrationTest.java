@@ -0,0 +1,146 @@
+package org.evento.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.evento.model.Evento;
+import org.evento.model.StatusInscricao;
+import org.evento.model.request.EventoRequest;
+import org.evento.model.request.InscricaoLoteRequest;
+import org.evento.model.response.InscricaoLoteResponse;
+import org.evento.model.response.InscricaoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ListaEsperaIntegrationTest {
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testFreedSeatsArePromotedInArrivalOrder() throws Exception {
+        String eventId = createEvent(2);
+        List<String> usuarios = createUsers(5);
+
+        List<InscricaoResponse> respostas = new ArrayList<>();
+        for (String userId : usuarios) {
+            respostas.add(eventoService.registerForEvent(eventId, userId));
+        }
+
+        assertEquals(List.of(StatusInscricao.REGISTERED, StatusInscricao.REGISTERED, StatusInscricao.WAITLISTED,
+                StatusInscricao.WAITLISTED, StatusInscricao.WAITLISTED), respostas.stream().map(InscricaoResponse::getStatus).toList());
+        assertEquals(List.of(1L, 2L, 3L), respostas.subList(2, 5).stream().map(InscricaoResponse::getPosition).toList());
+        assertEquals(2L, eventoService.registerForEvent(eventId, usuarios.get(3)).getPosition());
+
+        eventoService.unregisterFromEvent(eventId, usuarios.get(0));
+        await(() -> registered(eventId).contains(usuarios.get(2)));
+        assertEquals(List.of(usuarios.get(3), usuarios.get(4)), waiting(eventId));
+
+        eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome("Waitlist")
+                .data(LocalDate.now().plusDays(10))
+                .localizacao("Sala")
+                .maxParticipantes(4)
+                .build());
+        await(() -> waiting(eventId).isEmpty());
+        assertEquals(4, registered(eventId).size());
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "select total_participantes from eventos where id = ?", Integer.class, eventId));
+    }
+
+    @Test
+    void testBatchLeavesFreeSeatsToTheWaitlist() throws Exception {
+        String eventId = createEvent(1);
+        List<String> usuarios = createUsers(3);
+        eventoService.registerForEvent(eventId, usuarios.get(0));
+        eventoService.registerForEvent(eventId, usuarios.get(1));
+
+        // Vaga aberta por fora do EventoService: o lote não passa na frente de quem está na fila.
+        jdbcTemplate.update("update eventos set max_participantes = 2 where id = ?", eventId);
+        entityManagerFactory.getCache().evict(Evento.class, eventId);
+        InscricaoLoteResponse lote = eventoService.registerBatch(eventId,
+                InscricaoLoteRequest.builder().userIds(List.of(usuarios.get(2))).build());
+
+        assertEquals(StatusInscricao.EVENT_FULL, lote.getResultados().get(0).getStatus());
+        await(() -> waiting(eventId).isEmpty());
+        assertEquals(List.of(usuarios.get(0), usuarios.get(1)).stream().sorted().toList(),
+                registered(eventId).stream().sorted().toList());
+    }
+
+    @Test
+    void testPromotionSkipsUsersRegisteredMeanwhile() throws Exception {
+        String eventId = createEvent(1);
+        List<String> usuarios = createUsers(3);
+        eventoService.registerForEvent(eventId, usuarios.get(0));
+        eventoService.registerForEvent(eventId, usuarios.get(1));
+        eventoService.registerForEvent(eventId, usuarios.get(2));
+
+        // Inscrito por outro caminho enquanto ainda estava na fila.
+        jdbcTemplate.update("insert into inscricoes (id, evento_id, usuario_id, inscrito_em) values (?, ?, ?, current_timestamp)",
+                UUID.randomUUID().toString(), eventId, usuarios.get(1));
+        jdbcTemplate.update("update eventos set max_participantes = 2, total_participantes = 2 where id = ?", eventId);
+
+        eventoService.updateEvent(eventId, EventoRequest.builder()
+                .nome("Waitlist")
+                .localizacao("Sala")
+                .maxParticipantes(3)
+                .build());
+        await(() -> waiting(eventId).isEmpty());
+        assertEquals(3, registered(eventId).size());
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "select total_participantes from eventos where id = ?", Integer.class, eventId));
+    }
+
+    private List<String> registered(String eventId) {
+        return jdbcTemplate.queryForList("select usuario_id from inscricoes where evento_id = ?", String.class, eventId);
+    }
+
+    private List<String> waiting(String eventId) {
+        return jdbcTemplate.queryForList("select usuario_id from lista_espera where evento_id = ? order by id", String.class, eventId);
+    }
+
+    private static void await(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < limite, "waitlist promotion did not happen in time");
+            Thread.sleep(20);
+        }
+    }
+
+    private String createEvent(int capacidade) {
+        return eventoService.saveEvento(EventoRequest.builder()
+                .nome("Waitlist")
+                .data(LocalDate.now().plusDays(10))
+                .localizacao("Sala")
+                .maxParticipantes(capacidade)
+                .build()).getId();
+    }
+
+    private List<String> createUsers(int quantidade) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            String id = UUID.randomUUID().toString();
+            jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, ?, ?)",
+                    id, "fila-" + id, "senha", "USER");
+            ids.add(id);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,102 @@
+package org.evento.service;
+
+import org.evento.model.request.EventoRequest;
+import org.evento.model.response.EventoProximoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProximosEventosIntegrationTest {
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testEveryWriteReachesTheReadModel() throws Exception {
+        String eventId = eventoService.saveEvento(request(LocalDate.now(), 3)).getId();
+        await(eventId, evento -> evento.getVagas() == 3);
+
+        String userId = createUser();
+        eventoService.registerForEvent(eventId, userId);
+        await(eventId, evento -> evento.getVagas() == 2);
+
+        eventoService.updateEvent(eventId, request(LocalDate.now().plusDays(1), 5));
+        await(eventId, evento -> evento.getData().equals(LocalDate.now().plusDays(1)) && evento.getVagas() == 4);
+
+        eventoService.unregisterFromEvent(eventId, userId);
+        await(eventId, evento -> evento.getVagas() == 5);
+
+        eventoService.deleteById(eventId);
+        awaitAbsent(eventId);
+    }
+
+    @Test
+    void testPastAndUndatedEventsAreNotListed() throws Exception {
+        String passado = eventoService.saveEvento(request(LocalDate.now().minusDays(1), 3)).getId();
+        String semData = eventoService.saveEvento(request(null, 3)).getId();
+        // O refresher relê em ordem de escrita: quando o último evento aparece, os anteriores já foram relidos
+        String hoje = eventoService.saveEvento(request(LocalDate.now(), 3)).getId();
+        await(hoje, evento -> true);
+
+        assertTrue(upcoming(passado).isEmpty());
+        assertTrue(upcoming(semData).isEmpty());
+    }
+
+    /**
+     * O modelo é atualizado em segundo plano depois do commit: espera a escrita aparecer na leitura.
+     */
+    private void await(String eventId, Predicate<EventoProximoResponse> condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!upcoming(eventId).filter(condicao).isPresent()) {
+            assertTrue(System.currentTimeMillis() < limite, "upcoming events were not refreshed in time");
+            Thread.sleep(20);
+        }
+    }
+
+    private void awaitAbsent(String eventId) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (upcoming(eventId).isPresent()) {
+            assertTrue(System.currentTimeMillis() < limite, "upcoming events were not refreshed in time");
+            Thread.sleep(20);
+        }
+    }
+
+    /**
+     * Nenhum outro teste de integração cria eventos para hoje ou amanhã, então os deste teste estão
+     * sempre na primeira página.
+     */
+    private Optional<EventoProximoResponse> upcoming(String eventId) {
+        return eventoService.findUpcoming(EventoService.MAX_PAGE_SIZE).stream()
+                .filter(evento -> evento.getId().equals(eventId))
+                .findFirst();
+    }
+
+    private String createUser() {
+        String id = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into users (id, username, password, role) values (?, ?, 'senha', 'USER')", id, "proximos-" + id);
+        return id;
+    }
+
+    private static EventoRequest request(LocalDate data, int maxParticipantes) {
+        return EventoRequest.builder()
+                .nome("Próximo")
+                .localizacao("Sala")
+                .data(data)
+                .maxParticipantes(maxParticipantes)
+                .build();
+    }
+}
@@ -0,0 +1,194 @@
+package org.evento.service;
+
+import org.evento.model.response.EventoProximoResponse;
+import org.evento.model.response.EventoResumoResponse;
+import org.evento.repository.EventoCacheEvictor;
+import org.evento.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ProximosEventosTest {
+
+    private static final LocalDate HOJE = LocalDate.of(2030, 1, 10);
+
+    private EventoRepository eventoRepository;
+    private Consumer<String> evict;
+    private Relogio relogio;
+    private final List<Runnable> refresher = new CopyOnWriteArrayList<>();
+    private EventoCacheEvictor eventoCacheEvictor;
+    private ProximosEventos proximosEventos;
+
+    @BeforeEach
+    void setUp() {
+        eventoRepository = mock(EventoRepository.class);
+        when(eventoRepository.findResumosFrom(HOJE)).thenReturn(List.of(
+                resumo("b", HOJE.plusDays(1), 10, 4),
+                resumo("a", HOJE.plusDays(1), 10, 10),
+                resumo("c", HOJE, 5, 0)));
+        eventoCacheEvictor = mock(EventoCacheEvictor.class);
+        relogio = new Relogio(HOJE);
+        createModel(Duration.ofHours(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void createModel(Duration esperaRetentativa) {
+        reset(eventoCacheEvictor);
+        proximosEventos = new ProximosEventos(eventoRepository, eventoCacheEvictor, relogio, refresher::add, esperaRetentativa);
+
+        ArgumentCaptor<Consumer<String>> onEvict = ArgumentCaptor.forClass(Consumer.class);
+        verify(eventoCacheEvictor).onEvict(onEvict.capture());
+        evict = onEvict.getValue();
+    }
+
+    @Test
+    void testListsByDayAndIdWithSeatsLeft() {
+        List<EventoProximoResponse> proximos = proximosEventos.next(10);
+
+        assertEquals(List.of("c", "a", "b"), ids(proximos));
+        assertEquals(List.of(5, 0, 6), proximos.stream().map(EventoProximoResponse::getVagas).toList());
+        assertEquals(List.of("c", "a"), ids(proximosEventos.next(2)));
+        verify(eventoRepository, never()).findResumosByIds(any());
+    }
+
+    @Test
+    void testPendingEventsAreReloadedOnceInTheBackground() {
+        when(eventoRepository.findResumosByIds(anyList())).thenReturn(List.of(
+                resumo("b", HOJE, 10, 9),
+                resumo("d", HOJE.plusDays(5), 10, 0)));
+        evict.accept("b");
+        proximosEventos.onAlterado(new EventoAlterado("d", "Novo", "Hall"));
+        proximosEventos.onRemovido(new EventoRemovido("c"));
+
+        // A leitura não espera nem consulta: mostra o último estado relido
+        assertEquals(List.of("c", "a", "b"), ids(proximosEventos.next(10)));
+        verify(eventoRepository, never()).findResumosByIds(any());
+
+        runRefresher();
+        List<EventoProximoResponse> proximos = proximosEventos.next(10);
+
+        assertEquals(List.of("b", "a", "d"), ids(proximos));
+        assertEquals(1, proximos.get(0).getVagas());
+        assertEquals(3, proximosEventos.size());
+        verify(eventoRepository, times(1)).findResumosByIds(anyList());
+        assertTrue(refresher.isEmpty());
+    }
+
+    @Test
+    void testFailedReloadKeepsEventsPending() {
+        when(eventoRepository.findResumosByIds(anyList()))
+                .thenThrow(new IllegalStateException("banco fora"))
+                .thenReturn(List.of(resumo("b", HOJE, 10, 9)));
+        evict.accept("b");
+        runRefresher();
+        assertEquals(6, proximosEventos.next(10).get(2).getVagas());
+
+        evict.accept("a");
+        runRefresher();
+
+        verify(eventoRepository).findResumosByIds(argThat(ids -> ids.containsAll(List.of("a", "b"))));
+        assertEquals(List.of("b", "c"), ids(proximosEventos.next(10)));
+    }
+
+    @Test
+    void testFailedReloadIsRetriedWithoutAnotherWrite() throws InterruptedException {
+        createModel(Duration.ZERO);
+        when(eventoRepository.findResumosByIds(anyList()))
+                .thenThrow(new IllegalStateException("banco fora"))
+                .thenReturn(List.of(resumo("b", HOJE, 10, 9)));
+        evict.accept("b");
+        runRefresher();
+
+        long limite = System.currentTimeMillis() + 5000;
+        while (refresher.isEmpty() && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        runRefresher();
+
+        assertEquals(List.of("b", "c", "a"), ids(proximosEventos.next(10)));
+        assertEquals(1, proximosEventos.next(1).get(0).getVagas());
+    }
+
+    @Test
+    void testEventMovedToAnotherDayIsListedOnce() {
+        when(eventoRepository.findResumosByIds(anyList())).thenReturn(List.of(resumo("b", HOJE.plusDays(2), 10, 4)));
+        evict.accept("b");
+        runRefresher();
+
+        assertEquals(List.of("c", "a", "b"), ids(proximosEventos.next(10)));
+        assertEquals(3, proximosEventos.size());
+    }
+
+    @Test
+    void testEventMovedToThePastOrUndatedLeavesTheModel() {
+        evict.accept("a");
+        evict.accept("b");
+        when(eventoRepository.findResumosByIds(anyList())).thenReturn(List.of(
+                resumo("a", HOJE.minusDays(1), 10, 0),
+                resumo("b", null, 10, 0)));
+        runRefresher();
+
+        assertEquals(List.of("c"), ids(proximosEventos.next(10)));
+    }
+
+    @Test
+    void testDropsPastDays() {
+        relogio.hoje = HOJE.plusDays(1);
+
+        assertEquals(List.of("a", "b"), ids(proximosEventos.next(10)));
+        runRefresher();
+        assertEquals(2, proximosEventos.size());
+    }
+
+    private void runRefresher() {
+        while (!refresher.isEmpty()) {
+            refresher.remove(0).run();
+        }
+    }
+
+    private static List<String> ids(List<EventoProximoResponse> eventos) {
+        return eventos.stream().map(EventoProximoResponse::getId).toList();
+    }
+
+    private static EventoResumoResponse resumo(String id, LocalDate data, int maxParticipantes, int inscritos) {
+        return new EventoResumoResponse(id, "Evento " + id, "Hall", data, maxParticipantes, inscritos, 0L);
+    }
+
+    private static class Relogio extends Clock {
+
+        private LocalDate hoje;
+
+        Relogio(LocalDate hoje) {
+            this.hoje = hoje;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return hoje.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.evento.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetentativaOtimistaTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetentativaOtimista retentativaOtimista;
+    private AtomicInteger tentativas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retentativaOtimista = new RetentativaOtimista(meterRegistry, 3, Duration.ofMillis(1), Duration.ofMillis(2));
+        tentativas = new AtomicInteger();
+    }
+
+    @Test
+    void testRetriesConflictUntilSuccess() {
+        String resultado = retentativaOtimista.execute("updateEvent", () -> {
+            if (tentativas.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", resultado);
+        assertEquals(3, tentativas.get());
+        assertEquals(2.0, count("eventos.optimistic.conflicts"));
+        assertEquals(2.0, count("eventos.optimistic.retries"));
+        assertNull(meterRegistry.find("eventos.optimistic.exhausted").counter());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> retentativaOtimista.execute("updateEvent", () -> {
+            tentativas.incrementAndGet();
+            throw conflict();
+        }));
+
+        assertEquals(3, tentativas.get());
+        assertEquals(3.0, count("eventos.optimistic.conflicts"));
+        assertEquals(2.0, count("eventos.optimistic.retries"));
+        assertEquals(1.0, count("eventos.optimistic.exhausted"));
+    }
+
+    @Test
+    void testOtherFailuresAreNotRetried() {
+        assertThrows(IllegalStateException.class, () -> retentativaOtimista.execute("updateEvent", () -> {
+            tentativas.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals(1, tentativas.get());
+        assertNull(meterRegistry.find("eventos.optimistic.conflicts").counter());
+    }
+
+    private double count(String nome) {
+        return meterRegistry.get(nome).tag("operation", "updateEvent").counter().count();
+    }
+
+    private static ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(Object.class, "1");
+    }
+}